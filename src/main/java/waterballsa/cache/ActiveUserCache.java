@@ -0,0 +1,92 @@
+package waterballsa.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.repository.UserRepository;
+
+/**
+ * Short-lived cache answering "does this user exist and is it not soft-deleted?" for the JWT
+ * filter.
+ *
+ * <p>Soft deletes are caught by {@link UserCacheListener}, which evicts the user locally and
+ * broadcasts the eviction to all instances on the {@value #CHANNEL} cluster channel. The TTL only
+ * bounds staleness for changes made outside the application.
+ */
+@Component
+public class ActiveUserCache implements LocalCache, ClusterEventHandler {
+
+  /** Cluster channel carrying the IDs of soft-deleted users. */
+  public static final String CHANNEL = "user_deleted";
+
+  private static final String CACHE_NAME = "jwt.active-users";
+
+  private final UserRepository userRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final Cache<Long, Boolean> cache;
+
+  public ActiveUserCache(
+      UserRepository userRepository,
+      ClusterEventBus clusterEventBus,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.active-user-cache.maximum-size}") long maximumSize,
+      @Value("${jwt.active-user-cache.ttl-ms}") long ttlMs) {
+    this.userRepository = userRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Check whether the user exists and has not been soft-deleted.
+   *
+   * @param userId user ID
+   * @return true if the user is active
+   */
+  public boolean isActive(Long userId) {
+    return cache.get(userId, userRepository::existsByIdAndDeletedAtIsNull);
+  }
+
+  /**
+   * Evict the user on every instance (called when the user is soft-deleted). The cluster event is
+   * delivered when the current transaction commits.
+   *
+   * @param userId user ID
+   */
+  public void userDeleted(Long userId) {
+    cache.invalidate(userId);
+    clusterEventBus.publish(CHANNEL, userId.toString());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    cache.invalidate(Long.valueOf(payload));
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Deletions published while the listener was not subscribed were missed
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
@@ -0,0 +1,68 @@
+package waterballsa.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import waterballsa.entity.Chapter;
+import waterballsa.entity.Journey;
+import waterballsa.entity.Mission;
+import waterballsa.entity.MissionResource;
+import waterballsa.entity.Reward;
+
+/**
+ * JPA entity listener that invalidates caches built from journey content when it changes.
+ *
+ * <p>Registered via {@code @EntityListeners} on {@link Journey}, {@link Chapter}, {@link Mission},
+ * {@link MissionResource} and {@link Reward}; Hibernate obtains it from the Spring context. The
+ * caches are injected lazily because the listener is created while the entity manager factory is
+ * being built.
+ */
+@Component
+public class ContentChangeListener {
+
+  private final JourneyCatalog journeyCatalog;
+  private final JourneyTreeCache journeyTreeCache;
+  private final JourneyTitleCache journeyTitleCache;
+  private final MissionMetaCache missionMetaCache;
+  private final RewardCatalog rewardCatalog;
+
+  public ContentChangeListener(
+      @Lazy JourneyCatalog journeyCatalog,
+      @Lazy JourneyTreeCache journeyTreeCache,
+      @Lazy JourneyTitleCache journeyTitleCache,
+      @Lazy MissionMetaCache missionMetaCache,
+      @Lazy RewardCatalog rewardCatalog) {
+    this.journeyCatalog = journeyCatalog;
+    this.journeyTreeCache = journeyTreeCache;
+    this.journeyTitleCache = journeyTitleCache;
+    this.missionMetaCache = missionMetaCache;
+    this.rewardCatalog = rewardCatalog;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onChange(Object entity) {
+    if (entity instanceof Reward) {
+      // Rewards are not part of the journey tree or the mission metadata
+      rewardCatalog.rewardsChanged();
+      return;
+    }
+
+    // Every content change can add, remove or alter a live mission
+    missionMetaCache.contentChanged();
+
+    if (entity instanceof Journey journey) {
+      journeyCatalog.journeyChanged();
+      journeyTreeCache.journeyChanged(journey.getId());
+      journeyTitleCache.journeyChanged(journey.getId());
+    } else if (entity instanceof Chapter chapter) {
+      journeyTreeCache.journeyChanged(chapter.getJourney().getId());
+    } else if (entity instanceof Mission) {
+      // Resolving the journey would load the chapter during flush; mission edits are rare
+      journeyTreeCache.journeyChanged(null);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package waterballsa.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.dto.JourneyListResponse;
+import waterballsa.service.JourneyService;
+
+/**
+ * Pre-serialized snapshot of the public journey list ({@code GET /journeys}).
+ *
+ * <p>The catalog changes rarely but is read on every visit, so the response body is built once and
+ * held as an immutable JSON byte array, together with a strong ETag derived from its content. It is
+ * rebuilt lazily after a journey changes (see {@link ContentChangeListener}, broadcast to all
+ * instances on the {@value #CHANNEL} cluster channel) and eagerly on a refresh interval to pick up
+ * changes made outside the application.
+ */
+@Component
+public class JourneyCatalog implements LocalCache, ClusterEventHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(JourneyCatalog.class);
+
+  /** Cluster channel signalling that the journey catalog changed (empty payload). */
+  public static final String CHANNEL = "journey_catalog_changed";
+
+  private final JourneyService journeyService;
+  private final ObjectMapper objectMapper;
+  private final ClusterEventBus clusterEventBus;
+
+  // null means the snapshot is stale and must be rebuilt before serving
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+  public JourneyCatalog(
+      JourneyService journeyService, ObjectMapper objectMapper, ClusterEventBus clusterEventBus) {
+    this.journeyService = journeyService;
+    this.objectMapper = objectMapper;
+    this.clusterEventBus = clusterEventBus;
+  }
+
+  /**
+   * Get the journey list as serialized JSON with its ETag. The JSON array is shared and must not be
+   * modified.
+   *
+   * @return the current catalog snapshot
+   */
+  public Snapshot getSnapshot() {
+    Snapshot current = snapshot.get();
+    return current != null ? current : rebuildIfStale();
+  }
+
+  /**
+   * Mark the catalog as changed on every instance. Called inside the transaction that changes a
+   * journey; the cluster event is delivered when it commits.
+   */
+  public void journeyChanged() {
+    invalidateAll();
+    clusterEventBus.publish(CHANNEL, "");
+  }
+
+  /** Rebuild the snapshot on a fixed interval so requests never wait for it. */
+  @Scheduled(
+      fixedDelayString = "${journeys.catalog.refresh-interval-ms}",
+      initialDelayString = "${journeys.catalog.refresh-interval-ms}")
+  public synchronized void refresh() {
+    snapshot.set(build());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Changes published while the listener was not subscribed were missed
+    invalidateAll();
+  }
+
+  /** Synchronized with rebuilds so a rebuild in progress cannot store an outdated snapshot. */
+  @Override
+  public synchronized void invalidateAll() {
+    snapshot.set(null);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private synchronized Snapshot rebuildIfStale() {
+    Snapshot current = snapshot.get();
+    if (current == null) {
+      current = build();
+      snapshot.set(current);
+    }
+    return current;
+  }
+
+  private Snapshot build() {
+    JourneyListResponse response = journeyService.getJourneys();
+    try {
+      byte[] serialized = objectMapper.writeValueAsBytes(response);
+      logger.debug(
+          "Journey catalog rebuilt with {} journeys ({} bytes)",
+          response.journeys().size(),
+          serialized.length);
+      return new Snapshot(serialized, "journeys-" + contentHash(serialized));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize journey catalog", e);
+    }
+  }
+
+  private static String contentHash(byte[] content) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required to be available on every Java platform
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  /**
+   * Serialized catalog and its strong ETag.
+   *
+   * @param json UTF-8 encoded JSON of {@link JourneyListResponse}
+   * @param etag ETag derived from the JSON content
+   */
+  public record Snapshot(byte[] json, String etag) {}
+}
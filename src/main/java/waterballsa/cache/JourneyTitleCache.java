@@ -0,0 +1,106 @@
+package waterballsa.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.repository.JourneyRepository;
+import waterballsa.repository.JourneyTitleRow;
+
+/**
+ * Cache of journey titles keyed by journey ID, used to label order items.
+ *
+ * <p>Titles are resolved for a whole page of orders at once: cached titles are served from memory
+ * and all misses are loaded with a single IN query, so labelling a page costs at most one SQL
+ * statement however many orders and items it has. Entries are invalidated per journey by {@link
+ * ContentChangeListener} and broadcast to all instances on the {@value #CHANNEL} cluster channel;
+ * the TTL only bounds staleness for changes made outside the application.
+ */
+@Component
+public class JourneyTitleCache implements LocalCache, ClusterEventHandler {
+
+  /** Cluster channel carrying the ID of a changed journey. */
+  public static final String CHANNEL = "journey_title_changed";
+
+  private static final String CACHE_NAME = "journeys.titles";
+
+  private final JourneyRepository journeyRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final Cache<Long, String> cache;
+
+  public JourneyTitleCache(
+      JourneyRepository journeyRepository,
+      ClusterEventBus clusterEventBus,
+      MeterRegistry meterRegistry,
+      @Value("${journeys.title-cache.maximum-size}") long maximumSize,
+      @Value("${journeys.title-cache.ttl-ms}") long ttlMs) {
+    this.journeyRepository = journeyRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Get the titles of the given journeys, loading all misses with one query. Missing or deleted
+   * journeys are not cached.
+   *
+   * @param journeyIds Journey IDs
+   * @return titles by journey ID; missing or deleted journeys are left out
+   */
+  public Map<Long, String> getTitles(Collection<Long> journeyIds) {
+    return cache.getAll(journeyIds, this::loadAll);
+  }
+
+  /**
+   * Invalidate the journey's title on every instance. Called inside the transaction that changes
+   * the journey; the cluster event is delivered when it commits.
+   *
+   * @param journeyId Journey ID
+   */
+  public void journeyChanged(Long journeyId) {
+    cache.invalidate(journeyId);
+    clusterEventBus.publish(CHANNEL, journeyId.toString());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    cache.invalidate(Long.valueOf(payload));
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Changes published while the listener was not subscribed were missed
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  // ==================== Helper Methods ====================
+
+  private Map<Long, String> loadAll(Set<? extends Long> journeyIds) {
+    return journeyRepository.findTitlesByIdIn(Set.copyOf(journeyIds)).stream()
+        .collect(Collectors.toMap(JourneyTitleRow::getId, JourneyTitleRow::getTitle));
+  }
+}
@@ -0,0 +1,12 @@
+package waterballsa.cache;
+
+import waterballsa.dto.JourneyDetailResponse;
+
+/**
+ * Immutable, fully built journey detail (chapters and missions already filtered and sorted) as
+ * cached by {@link JourneyTreeCache}.
+ *
+ * @param detail the journey detail response
+ * @param etag strong ETag of the detail, derived from the rows it was built from
+ */
+public record JourneyTree(JourneyDetailResponse detail, String etag) {}
@@ -0,0 +1,200 @@
+package waterballsa.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.dto.ChapterDTO;
+import waterballsa.dto.JourneyDetailResponse;
+import waterballsa.dto.MissionSummaryDTO;
+import waterballsa.entity.Chapter;
+import waterballsa.entity.Journey;
+import waterballsa.entity.Mission;
+import waterballsa.repository.ChapterRepository;
+import waterballsa.repository.JourneyRepository;
+import waterballsa.repository.MissionRepository;
+
+/**
+ * Cache of {@link JourneyTree}s keyed by journey ID.
+ *
+ * <p>A tree is loaded with one query per level (journey, its chapters, then all of their missions
+ * with an IN list), so a cold detail page costs at most 3 SQL statements and a warm one none.
+ * Entries are invalidated per journey by {@link ContentChangeListener} and broadcast to all
+ * instances on the {@value #CHANNEL} cluster channel; the TTL only bounds staleness for changes
+ * made outside the application.
+ */
+@Component
+public class JourneyTreeCache implements LocalCache, ClusterEventHandler {
+
+  /** Cluster channel carrying the ID of a changed journey, or {@value #ALL} for every journey. */
+  public static final String CHANNEL = "journey_tree_changed";
+
+  private static final String ALL = "*";
+  private static final String CACHE_NAME = "journeys.trees";
+
+  private final JourneyRepository journeyRepository;
+  private final ChapterRepository chapterRepository;
+  private final MissionRepository missionRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final Cache<Long, JourneyTree> cache;
+
+  public JourneyTreeCache(
+      JourneyRepository journeyRepository,
+      ChapterRepository chapterRepository,
+      MissionRepository missionRepository,
+      ClusterEventBus clusterEventBus,
+      MeterRegistry meterRegistry,
+      @Value("${journeys.tree-cache.maximum-size}") long maximumSize,
+      @Value("${journeys.tree-cache.ttl-ms}") long ttlMs) {
+    this.journeyRepository = journeyRepository;
+    this.chapterRepository = chapterRepository;
+    this.missionRepository = missionRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Get the journey tree, loading it on a miss. Missing or deleted journeys are not cached.
+   *
+   * @param journeyId Journey ID
+   * @return the journey tree, or empty if the journey does not exist or is deleted
+   */
+  public Optional<JourneyTree> get(Long journeyId) {
+    return Optional.ofNullable(cache.get(journeyId, this::load));
+  }
+
+  /**
+   * Invalidate the journey's tree on every instance. Called inside the transaction that changes the
+   * content; the cluster event is delivered when it commits.
+   *
+   * @param journeyId Journey ID, or null to invalidate all journeys
+   */
+  public void journeyChanged(Long journeyId) {
+    if (journeyId == null) {
+      cache.invalidateAll();
+      clusterEventBus.publish(CHANNEL, ALL);
+    } else {
+      cache.invalidate(journeyId);
+      clusterEventBus.publish(CHANNEL, journeyId.toString());
+    }
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    if (ALL.equals(payload)) {
+      cache.invalidateAll();
+    } else {
+      cache.invalidate(Long.valueOf(payload));
+    }
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Changes published while the listener was not subscribed were missed
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  // ==================== Helper Methods ====================
+
+  private JourneyTree load(Long journeyId) {
+    Journey journey = journeyRepository.findByIdAndDeletedAtIsNull(journeyId).orElse(null);
+    if (journey == null) {
+      return null;
+    }
+
+    List<Chapter> chapters =
+        chapterRepository.findByJourneyIdAndDeletedAtIsNullOrderByOrderIndexAsc(journeyId);
+    List<Mission> missions =
+        chapters.isEmpty()
+            ? List.of()
+            : missionRepository.findByChapterIdsNotDeleted(
+                chapters.stream().map(Chapter::getId).toList());
+
+    // Missions are already sorted by order index; grouping keeps that order per chapter
+    Map<Long, List<MissionSummaryDTO>> missionsByChapter =
+        missions.stream()
+            .collect(
+                Collectors.groupingBy(
+                    mission -> mission.getChapter().getId(),
+                    Collectors.mapping(this::mapToMissionSummaryDTO, Collectors.toList())));
+
+    List<ChapterDTO> chapterDTOs =
+        chapters.stream()
+            .map(
+                chapter ->
+                    new ChapterDTO(
+                        chapter.getId(),
+                        chapter.getTitle(),
+                        chapter.getOrderIndex(),
+                        List.copyOf(missionsByChapter.getOrDefault(chapter.getId(), List.of())),
+                        null))
+            .toList();
+
+    JourneyDetailResponse detail =
+        new JourneyDetailResponse(
+            journey.getId(),
+            journey.getSlug(),
+            journey.getTitle(),
+            journey.getDescription(),
+            journey.getCoverImageUrl(),
+            journey.getTeacherName(),
+            journey.getPrice(),
+            chapterDTOs);
+
+    return new JourneyTree(detail, etag(journey, chapters, missions));
+  }
+
+  private MissionSummaryDTO mapToMissionSummaryDTO(Mission mission) {
+    return new MissionSummaryDTO(
+        mission.getId(),
+        mission.getType().name(),
+        mission.getTitle(),
+        mission.getAccessLevel().name(),
+        mission.getOrderIndex(),
+        null); // the tree is shared; per-user statuses are merged in by JourneyService
+  }
+
+  /** Version of the tree: number of rows it was built from and their latest update time. */
+  private static String etag(Journey journey, List<Chapter> chapters, List<Mission> missions) {
+    LocalDateTime lastModified =
+        Stream.of(
+                Stream.of(journey.getUpdatedAt()),
+                chapters.stream().map(Chapter::getUpdatedAt),
+                missions.stream().map(Mission::getUpdatedAt))
+            .flatMap(stream -> stream)
+            .max(LocalDateTime::compareTo)
+            .orElse(journey.getUpdatedAt());
+    long lastModifiedMicros =
+        lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+    int rowCount = 1 + chapters.size() + missions.size();
+    return "journey-" + journey.getId() + "-" + rowCount + "-" + lastModifiedMicros;
+  }
+}
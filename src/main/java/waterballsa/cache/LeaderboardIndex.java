@@ -0,0 +1,251 @@
+package waterballsa.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.repository.UserRepository;
+import waterballsa.util.RankedSkipList;
+
+/**
+ * In-memory XP ranking of all users that are not deleted, replicated across instances.
+ *
+ * <p>Users are kept in a {@link RankedSkipList}, so a user's rank and any page of the ranking are
+ * found in O(log n) without sorting {@code users} in the database. The list is seeded from the
+ * database at startup, updated whenever the application changes a user's experience points, and
+ * reloaded on a schedule and whenever the cluster listener re-subscribes.
+ *
+ * <p>Changes are broadcast on the {@value #CHANNEL} cluster channel as {@code
+ * <userId>:<experiencePoints>}, or {@code <userId>:}{@value #REMOVED} when a user is deleted.
+ * Experience points only grow, so an event never lowers a score; this makes late or duplicate
+ * events harmless.
+ */
+@Component
+public class LeaderboardIndex implements LocalCache, ClusterEventHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(LeaderboardIndex.class);
+
+  /** Cluster channel carrying {@code <userId>:<experiencePoints>} payloads. */
+  public static final String CHANNEL = "leaderboard_score";
+
+  /** Score sent for a deleted user. */
+  private static final int REMOVED = -1;
+
+  private final UserRepository userRepository;
+  private final ClusterEventBus clusterEventBus;
+
+  // Readers take the read lock; the list is only changed or replaced under the write lock
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private RankedSkipList ranking = new RankedSkipList();
+
+  public LeaderboardIndex(
+      UserRepository userRepository, ClusterEventBus clusterEventBus, MeterRegistry meterRegistry) {
+    this.userRepository = userRepository;
+    this.clusterEventBus = clusterEventBus;
+    Gauge.builder("leaderboard.users", this, LeaderboardIndex::size)
+        .description("Users in the in-memory leaderboard")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get the highest ranked users.
+   *
+   * @param limit maximum number of users
+   * @return ranked users, best first
+   */
+  public List<RankedUser> top(int limit) {
+    lock.readLock().lock();
+    try {
+      return toRankedUsers(ranking.range(0, limit));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Get the users ranked around the given user: a page of {@code limit} users with the user as
+   * close to its middle as the ends of the ranking allow.
+   *
+   * @param userId user ID
+   * @param limit maximum number of users
+   * @return ranked users, best first, or empty if the user is not ranked
+   */
+  public Optional<List<RankedUser>> around(Long userId, int limit) {
+    lock.readLock().lock();
+    try {
+      OptionalInt index = ranking.indexOf(userId);
+      if (index.isEmpty()) {
+        return Optional.empty();
+      }
+      int from = Math.max(0, Math.min(index.getAsInt() - limit / 2, ranking.size() - limit));
+      return Optional.of(toRankedUsers(ranking.range(from, limit)));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return number of ranked users
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return ranking.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Record the user's new experience points and broadcast them. Called inside the transaction that
+   * persists the change; both the local update and the cluster event take effect when it commits.
+   *
+   * @param userId user ID
+   * @param experiencePoints experience points after the change
+   */
+  public void scoreChanged(Long userId, int experiencePoints) {
+    afterCommit(() -> apply(userId, experiencePoints));
+    clusterEventBus.publish(CHANNEL, userId + ":" + experiencePoints);
+  }
+
+  /**
+   * Remove the user from the ranking on every instance (called when the user is soft-deleted). Both
+   * the local removal and the cluster event take effect when the current transaction commits.
+   *
+   * @param userId user ID
+   */
+  public void userRemoved(Long userId) {
+    afterCommit(() -> apply(userId, REMOVED));
+    clusterEventBus.publish(CHANNEL, userId + ":" + REMOVED);
+  }
+
+  /** Seed the ranking from the database once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    reload();
+  }
+
+  /**
+   * Replace the ranking with the current database state, dropping changes that were rolled back.
+   */
+  @Scheduled(
+      fixedDelayString = "${leaderboard.reload-interval-ms}",
+      initialDelayString = "${leaderboard.reload-interval-ms}")
+  public synchronized void reload() {
+    // Built outside the write lock so readers keep using the current ranking meanwhile
+    RankedSkipList loaded = new RankedSkipList();
+    userRepository
+        .findAllScores()
+        .forEach(row -> loaded.put(row.getId(), row.getExperiencePoints()));
+
+    lock.writeLock().lock();
+    try {
+      ranking = loaded;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    logger.debug("Leaderboard reloaded with {} users", loaded.size());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    int separator = payload.indexOf(':');
+    if (separator < 0) {
+      logger.warn("Ignoring malformed leaderboard event: {}", payload);
+      return;
+    }
+    apply(
+        Long.valueOf(payload.substring(0, separator)),
+        Integer.parseInt(payload.substring(separator + 1)));
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Catch up on score changes published while the listener was not subscribed
+    reload();
+  }
+
+  @Override
+  public void invalidateAll() {
+    reload();
+  }
+
+  // ==================== Helper Methods ====================
+
+  // A score is never lowered, so one applied by a transaction that then rolled back would stay
+  // until the next reload
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  // Synchronized with reload() so an event is never applied to a ranking about to be replaced
+  private synchronized void apply(Long userId, int experiencePoints) {
+    lock.writeLock().lock();
+    try {
+      if (experiencePoints == REMOVED) {
+        ranking.remove(userId);
+        return;
+      }
+      Integer current = ranking.getScore(userId);
+      if (current == null || experiencePoints > current) {
+        ranking.put(userId, experiencePoints);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Attach competition ranks: tied users share a rank and the next rank is skipped. */
+  private List<RankedUser> toRankedUsers(List<RankedSkipList.Entry> entries) {
+    List<RankedUser> rankedUsers = new ArrayList<>(entries.size());
+    int rank = 0;
+    Integer previousScore = null;
+    for (RankedSkipList.Entry entry : entries) {
+      if (previousScore == null || entry.score() != previousScore) {
+        rank = ranking.countAbove(entry.score()) + 1;
+        previousScore = entry.score();
+      }
+      rankedUsers.add(new RankedUser(rank, entry.id(), entry.score()));
+    }
+    return rankedUsers;
+  }
+
+  /**
+   * User's position in the ranking.
+   *
+   * @param rank 1-based competition rank
+   * @param userId user ID
+   * @param experiencePoints user's experience points
+   */
+  public record RankedUser(int rank, Long userId, int experiencePoints) {}
+}
@@ -0,0 +1,14 @@
+package waterballsa.cache;
+
+/**
+ * In-process cache whose entries are derived from database rows.
+ *
+ * <p>Implementations rely on the application's own writes (and cluster events) to stay fresh.
+ * {@link #invalidateAll()} drops everything so the next read goes back to the database, e.g. after
+ * data was changed behind the application's back.
+ */
+public interface LocalCache {
+
+  /** Discard all cached entries. */
+  void invalidateAll();
+}
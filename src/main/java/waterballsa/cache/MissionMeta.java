@@ -0,0 +1,40 @@
+package waterballsa.cache;
+
+import waterballsa.entity.MissionAccessLevel;
+import waterballsa.entity.MissionType;
+import waterballsa.repository.MissionMetaRow;
+
+/**
+ * Immutable metadata of a live mission, as needed by progress tracking and delivery.
+ *
+ * @param id mission ID
+ * @param type mission type
+ * @param accessLevel mission access level
+ * @param journeyId ID of the journey the mission belongs to
+ * @param chapterId ID of the chapter the mission belongs to
+ * @param videoDurationSeconds duration of the first resource that has one, or null
+ */
+public record MissionMeta(
+    Long id,
+    MissionType type,
+    MissionAccessLevel accessLevel,
+    Long journeyId,
+    Long chapterId,
+    Integer videoDurationSeconds) {
+
+  /**
+   * Create the metadata from a row returned by the mission repository.
+   *
+   * @param row mission metadata row
+   * @return the mission metadata
+   */
+  public static MissionMeta from(MissionMetaRow row) {
+    return new MissionMeta(
+        row.getId(),
+        MissionType.valueOf(row.getType()),
+        MissionAccessLevel.valueOf(row.getAccessLevel()),
+        row.getJourneyId(),
+        row.getChapterId(),
+        row.getVideoDurationSeconds());
+  }
+}
@@ -0,0 +1,123 @@
+package waterballsa.cache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.repository.MissionRepository;
+
+/**
+ * Immutable map of {@link MissionMeta} for every live mission.
+ *
+ * <p>Progress heartbeats and deliveries only need a mission's type and video duration, so they are
+ * served from memory instead of joining missions, chapters, journeys and resources on every call.
+ * The map is loaded in bulk with a single query and rebuilt lazily after content changes (see
+ * {@link ContentChangeListener}, broadcast to all instances on the {@value #CHANNEL} cluster
+ * channel) and eagerly on a refresh interval to pick up changes made outside the application.
+ */
+@Component
+public class MissionMetaCache implements LocalCache, ClusterEventHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(MissionMetaCache.class);
+
+  /** Cluster channel signalling that mission metadata changed (empty payload). */
+  public static final String CHANNEL = "mission_meta_changed";
+
+  private final MissionRepository missionRepository;
+  private final ClusterEventBus clusterEventBus;
+
+  // null means the map is stale and must be reloaded before serving
+  private final AtomicReference<Map<Long, MissionMeta>> missions = new AtomicReference<>();
+
+  public MissionMetaCache(MissionRepository missionRepository, ClusterEventBus clusterEventBus) {
+    this.missionRepository = missionRepository;
+    this.clusterEventBus = clusterEventBus;
+  }
+
+  /**
+   * Get the metadata of a live mission.
+   *
+   * @param missionId Mission ID
+   * @return the mission metadata, or empty if the mission, its chapter or its journey does not
+   *     exist or is deleted
+   */
+  public Optional<MissionMeta> get(Long missionId) {
+    return Optional.ofNullable(getAll().get(missionId));
+  }
+
+  /**
+   * Get the metadata of every live mission.
+   *
+   * @return immutable map of mission metadata keyed by mission ID
+   */
+  public Map<Long, MissionMeta> getAll() {
+    Map<Long, MissionMeta> current = missions.get();
+    return current != null ? current : reloadIfStale();
+  }
+
+  /**
+   * Mark the metadata as changed on every instance. Called inside the transaction that changes a
+   * journey, chapter, mission or resource; the cluster event is delivered when it commits.
+   */
+  public void contentChanged() {
+    invalidateAll();
+    clusterEventBus.publish(CHANNEL, "");
+  }
+
+  /** Reload the map on a fixed interval so requests never wait for it. */
+  @Scheduled(
+      fixedDelayString = "${missions.meta-cache.refresh-interval-ms}",
+      initialDelayString = "${missions.meta-cache.refresh-interval-ms}")
+  public synchronized void refresh() {
+    missions.set(load());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Changes published while the listener was not subscribed were missed
+    invalidateAll();
+  }
+
+  /** Synchronized with reloads so a reload in progress cannot store an outdated map. */
+  @Override
+  public synchronized void invalidateAll() {
+    missions.set(null);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private synchronized Map<Long, MissionMeta> reloadIfStale() {
+    Map<Long, MissionMeta> current = missions.get();
+    if (current == null) {
+      current = load();
+      missions.set(current);
+    }
+    return current;
+  }
+
+  private Map<Long, MissionMeta> load() {
+    Map<Long, MissionMeta> loaded =
+        missionRepository.findAllMeta().stream()
+            .map(MissionMeta::from)
+            .collect(Collectors.toUnmodifiableMap(MissionMeta::id, Function.identity()));
+    logger.debug("Mission metadata loaded for {} missions", loaded.size());
+    return loaded;
+  }
+}
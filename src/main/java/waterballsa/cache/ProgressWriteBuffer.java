@@ -0,0 +1,213 @@
+package waterballsa.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind buffer for video watch positions.
+ *
+ * <p>Players report their position every few seconds and each report supersedes the previous one,
+ * so only the latest position per (user, mission) is kept in memory and written to {@code
+ * user_mission_progress} in batched upserts on a flush interval. Status changes are never buffered:
+ * completion and delivery are persisted synchronously by the caller, which discards any pending
+ * position first. A position that still gets flushed later never overwrites a newer write. Reads on
+ * this instance see pending positions through {@link #getPendingPosition}; other instances see them
+ * after the next flush.
+ */
+@Component
+public class ProgressWriteBuffer implements LocalCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProgressWriteBuffer.class);
+
+  // Status is only set for new rows; existing rows keep theirs. Soft-deleted rows are left alone.
+  // A flush can commit after a synchronous write that discard() did not reach (it raced the flush,
+  // or ran on another instance), so a row updated after the position was recorded is skipped.
+  private static final String UPSERT_SQL =
+      "INSERT INTO user_mission_progress "
+          + "(user_id, mission_id, status, watch_position_seconds, created_at, updated_at) "
+          + "VALUES (?, ?, 'UNCOMPLETED', ?, ?, ?) "
+          + "ON CONFLICT (user_id, mission_id) DO UPDATE "
+          + "SET watch_position_seconds = EXCLUDED.watch_position_seconds, "
+          + "updated_at = EXCLUDED.updated_at "
+          + "WHERE user_mission_progress.deleted_at IS NULL "
+          + "AND user_mission_progress.updated_at < EXCLUDED.updated_at";
+
+  private static final Comparator<Key> KEY_ORDER =
+      Comparator.comparing(Key::userId).thenComparing(Key::missionId);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+  private final Counter flushedCounter;
+  private final Counter droppedCounter;
+
+  private final Map<Key, PendingPosition> pending = new ConcurrentHashMap<>();
+
+  public ProgressWriteBuffer(
+      JdbcTemplate jdbcTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${progress.write-behind.batch-size}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+    this.flushedCounter =
+        Counter.builder("progress.write_behind.flushed")
+            .description("Buffered watch positions written to user_mission_progress")
+            .register(meterRegistry);
+    this.droppedCounter =
+        Counter.builder("progress.write_behind.dropped")
+            .description("Buffered watch positions rejected by the database")
+            .register(meterRegistry);
+    Gauge.builder("progress.write_behind.pending", pending, Map::size)
+        .description("Watch positions waiting to be flushed")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Buffer the latest watch position, replacing any position not yet flushed.
+   *
+   * @param userId user ID
+   * @param missionId mission ID
+   * @param watchPositionSeconds watch position, already validated and capped
+   */
+  public void record(Long userId, Long missionId, int watchPositionSeconds) {
+    pending.put(
+        new Key(userId, missionId), new PendingPosition(watchPositionSeconds, LocalDateTime.now()));
+  }
+
+  /**
+   * Get the position buffered for the user and mission, if it has not been flushed yet.
+   *
+   * @param userId user ID
+   * @param missionId mission ID
+   * @return the pending watch position, or empty
+   */
+  public Optional<Integer> getPendingPosition(Long userId, Long missionId) {
+    return Optional.ofNullable(pending.get(new Key(userId, missionId)))
+        .map(PendingPosition::watchPositionSeconds);
+  }
+
+  /**
+   * Drop the buffered position so it cannot overwrite a synchronous write made after it.
+   *
+   * @param userId user ID
+   * @param missionId mission ID
+   */
+  public void discard(Long userId, Long missionId) {
+    pending.remove(new Key(userId, missionId));
+  }
+
+  /** Write all buffered positions, one batch of upserts per chunk. */
+  @Scheduled(
+      fixedDelayString = "${progress.write-behind.flush-interval-ms}",
+      initialDelayString = "${progress.write-behind.flush-interval-ms}")
+  public synchronized void flush() {
+    List<Key> keys = new ArrayList<>(pending.keySet());
+    // A fixed row order keeps concurrent flushes from several instances from deadlocking
+    keys.sort(KEY_ORDER);
+
+    for (int from = 0; from < keys.size(); from += batchSize) {
+      List<Map.Entry<Key, PendingPosition>> chunk = snapshot(keys, from);
+      if (!chunk.isEmpty() && !write(chunk)) {
+        return;
+      }
+    }
+  }
+
+  /** Flush what is left before the data source is closed. */
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  @Override
+  public void invalidateAll() {
+    pending.clear();
+  }
+
+  // ==================== Helper Methods ====================
+
+  /**
+   * Copy the chunk's entries. They stay in the buffer, and readable, until they have been written.
+   */
+  private List<Map.Entry<Key, PendingPosition>> snapshot(List<Key> keys, int from) {
+    List<Map.Entry<Key, PendingPosition>> chunk = new ArrayList<>(batchSize);
+    for (Key key : keys.subList(from, Math.min(from + batchSize, keys.size()))) {
+      PendingPosition position = pending.get(key);
+      if (position != null) {
+        chunk.add(Map.entry(key, position));
+      }
+    }
+    return chunk;
+  }
+
+  /**
+   * Write the chunk in one batch. If the batch fails, fall back to one statement per row so a
+   * single rejected row (e.g. its user or mission is gone) cannot block the others.
+   *
+   * @return false if the database is unavailable and flushing should stop for now
+   */
+  private boolean write(List<Map.Entry<Key, PendingPosition>> chunk) {
+    try {
+      jdbcTemplate.batchUpdate(
+          UPSERT_SQL, chunk.stream().map(ProgressWriteBuffer::toArgs).toList());
+      chunk.forEach(this::written);
+      flushedCounter.increment(chunk.size());
+      return true;
+    } catch (DataAccessException e) {
+      logger.warn("Batched progress flush failed, retrying row by row: {}", e.getMessage());
+    }
+
+    for (Map.Entry<Key, PendingPosition> entry : chunk) {
+      try {
+        jdbcTemplate.update(UPSERT_SQL, toArgs(entry));
+        flushedCounter.increment();
+      } catch (DataIntegrityViolationException e) {
+        droppedCounter.increment();
+        logger.warn("Dropping buffered progress for {}: {}", entry.getKey(), e.getMessage());
+      } catch (DataAccessException e) {
+        // Unwritten entries stay buffered for the next flush
+        logger.warn("Progress flush stopped early: {}", e.getMessage());
+        return false;
+      }
+      written(entry);
+    }
+    return true;
+  }
+
+  /** Remove the entry unless a newer position was recorded while it was being written. */
+  private void written(Map.Entry<Key, PendingPosition> entry) {
+    pending.remove(entry.getKey(), entry.getValue());
+  }
+
+  private static Object[] toArgs(Map.Entry<Key, PendingPosition> entry) {
+    Timestamp recordedAt = Timestamp.valueOf(entry.getValue().recordedAt());
+    return new Object[] {
+      entry.getKey().userId(),
+      entry.getKey().missionId(),
+      entry.getValue().watchPositionSeconds(),
+      recordedAt,
+      recordedAt
+    };
+  }
+
+  private record Key(Long userId, Long missionId) {}
+
+  private record PendingPosition(int watchPositionSeconds, LocalDateTime recordedAt) {}
+}
@@ -0,0 +1,212 @@
+package waterballsa.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.entity.AccessToken;
+import waterballsa.repository.AccessTokenRepository;
+import waterballsa.util.BloomFilter;
+
+/**
+ * In-process index of revoked (logged out) token JTIs, backed by the {@code access_tokens} table.
+ *
+ * <p>A Bloom filter answers the common case — a token that was never revoked — without touching the
+ * database, and an exact set confirms Bloom hits. Revocations are broadcast to every instance on
+ * the {@value #CHANNEL} cluster channel, so while this instance is subscribed the index is
+ * authoritative and no query is needed. While the listener is disconnected (or the index is still
+ * being built) any JTI the exact set does not know is checked against the database instead.
+ *
+ * <p>The index is built from the database at startup, updated on logout and by cluster events,
+ * caught up incrementally on a schedule (covering missed notifications) and periodically rebuilt
+ * from scratch to drop expired entries.
+ */
+@Component
+public class RevokedTokenIndex implements ClusterEventHandler {
+
+  /** Cluster channel carrying {@code <jti>:<expiresAtEpochMillis>} payloads. */
+  public static final String CHANNEL = "token_revoked";
+
+  private static final Logger logger = LoggerFactory.getLogger(RevokedTokenIndex.class);
+
+  // Rows committed slightly out of order must still be picked up by the incremental refresh
+  private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+  private final AccessTokenRepository accessTokenRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final int expectedInsertions;
+  private final double falsePositiveRate;
+
+  private volatile Snapshot snapshot;
+  private volatile LocalDateTime lastRefreshAt;
+
+  // True while the cluster listener is subscribed, i.e. every revocation reaches this index
+  private volatile boolean subscribed;
+
+  public RevokedTokenIndex(
+      AccessTokenRepository accessTokenRepository,
+      ClusterEventBus clusterEventBus,
+      @Value("${jwt.revocation.expected-insertions}") int expectedInsertions,
+      @Value("${jwt.revocation.false-positive-rate}") double falsePositiveRate) {
+    this.accessTokenRepository = accessTokenRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  /**
+   * Check whether the token with the given JTI has been revoked.
+   *
+   * @param jti JWT ID
+   * @return true if the token has been revoked
+   */
+  public boolean isRevoked(String jti) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      // Index not built yet (application still starting)
+      return accessTokenRepository.existsByTokenJti(jti);
+    }
+    if (current.bloomFilter().mightContain(jti) && current.revoked().containsKey(jti)) {
+      return true;
+    }
+    if (subscribed) {
+      return false;
+    }
+    // Revocations from other instances may have been missed while disconnected
+    return accessTokenRepository.existsByTokenJti(jti);
+  }
+
+  /**
+   * Record a revocation made by this instance and broadcast it to the cluster (called on logout,
+   * inside the transaction that inserts the {@code access_tokens} row).
+   *
+   * @param jti JWT ID
+   * @param expiresAt expiration time of the token
+   */
+  public void revoke(String jti, LocalDateTime expiresAt) {
+    add(jti, expiresAt);
+    long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    clusterEventBus.publish(CHANNEL, jti + ":" + expiresAtMillis);
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    int separator = payload.lastIndexOf(':');
+    if (separator < 0) {
+      logger.warn("Ignoring malformed token revocation event: {}", payload);
+      return;
+    }
+    String jti = payload.substring(0, separator);
+    LocalDateTime expiresAt =
+        LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(Long.parseLong(payload.substring(separator + 1))),
+            ZoneId.systemDefault());
+    add(jti, expiresAt);
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Catch up on revocations published while the listener was not subscribed
+    refresh();
+    subscribed = true;
+  }
+
+  @Override
+  public void onDisconnected() {
+    subscribed = false;
+  }
+
+  /** Build the index from the database once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    rebuild();
+  }
+
+  /**
+   * Rebuild the index from all unexpired rows in {@code access_tokens}, dropping expired entries.
+   */
+  @Scheduled(
+      fixedDelayString = "${jwt.revocation.rebuild-interval-ms}",
+      initialDelayString = "${jwt.revocation.rebuild-interval-ms}")
+  public synchronized void rebuild() {
+    LocalDateTime now = LocalDateTime.now();
+    List<AccessToken> tokens = accessTokenRepository.findByExpiresAtAfter(now);
+
+    Snapshot previous = snapshot;
+    Snapshot rebuilt =
+        new Snapshot(
+            new BloomFilter(Math.max(expectedInsertions, tokens.size() * 2), falsePositiveRate),
+            new ConcurrentHashMap<>());
+    tokens.forEach(token -> rebuilt.add(token.getTokenJti(), token.getExpiresAt()));
+
+    // Keep local revocations whose rows were not yet visible to the query above
+    if (previous != null) {
+      previous
+          .revoked()
+          .forEach(
+              (jti, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                  rebuilt.add(jti, expiresAt);
+                }
+              });
+    }
+
+    snapshot = rebuilt;
+    lastRefreshAt = now;
+    logger.info("Revoked token index rebuilt with {} entries", rebuilt.revoked().size());
+  }
+
+  /** Pick up revocations recorded since the last refresh (including those from other instances). */
+  @Scheduled(
+      fixedDelayString = "${jwt.revocation.refresh-interval-ms}",
+      initialDelayString = "${jwt.revocation.refresh-interval-ms}")
+  public synchronized void refresh() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    List<AccessToken> tokens =
+        accessTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(
+            lastRefreshAt.minus(REFRESH_OVERLAP), now);
+    tokens.forEach(token -> current.add(token.getTokenJti(), token.getExpiresAt()));
+    lastRefreshAt = now;
+
+    logger.debug("Revoked token index refreshed with {} recent entries", tokens.size());
+  }
+
+  private synchronized void add(String jti, LocalDateTime expiresAt) {
+    Snapshot current = snapshot;
+    if (current != null) {
+      current.add(jti, expiresAt);
+    }
+  }
+
+  /** Bloom filter and exact set that are always replaced together. */
+  private record Snapshot(BloomFilter bloomFilter, Map<String, LocalDateTime> revoked) {
+
+    void add(String jti, LocalDateTime expiresAt) {
+      // Insert into the exact set first so a Bloom hit can always be confirmed locally
+      revoked.put(jti, expiresAt);
+      bloomFilter.put(jti);
+    }
+  }
+}
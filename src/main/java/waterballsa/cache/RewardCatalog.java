@@ -0,0 +1,119 @@
+package waterballsa.cache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.entity.RewardType;
+import waterballsa.repository.MissionRewardRow;
+import waterballsa.repository.RewardRepository;
+
+/**
+ * Immutable map of the experience reward of every mission, built from the {@code rewards} table.
+ *
+ * <p>Mission details and deliveries read rewards from memory instead of querying them per request.
+ * The map is loaded in bulk with a single query and rebuilt lazily after a reward changes (see
+ * {@link ContentChangeListener}, broadcast to all instances on the {@value #CHANNEL} cluster
+ * channel) and eagerly on a refresh interval to pick up changes made outside the application.
+ */
+@Component
+public class RewardCatalog implements LocalCache, ClusterEventHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(RewardCatalog.class);
+
+  /** Cluster channel signalling that rewards changed (empty payload). */
+  public static final String CHANNEL = "rewards_changed";
+
+  /** Experience granted for a mission without an experience reward. */
+  private static final int NO_EXPERIENCE = 0;
+
+  private final RewardRepository rewardRepository;
+  private final ClusterEventBus clusterEventBus;
+
+  // null means the map is stale and must be reloaded before serving
+  private final AtomicReference<Map<Long, Integer>> experienceRewards = new AtomicReference<>();
+
+  public RewardCatalog(RewardRepository rewardRepository, ClusterEventBus clusterEventBus) {
+    this.rewardRepository = rewardRepository;
+    this.clusterEventBus = clusterEventBus;
+  }
+
+  /**
+   * Get the experience points granted for delivering a mission.
+   *
+   * @param missionId Mission ID
+   * @return the experience reward, or 0 if the mission has none
+   */
+  public int getExperience(Long missionId) {
+    Map<Long, Integer> current = experienceRewards.get();
+    if (current == null) {
+      current = reloadIfStale();
+    }
+    return current.getOrDefault(missionId, NO_EXPERIENCE);
+  }
+
+  /**
+   * Mark the rewards as changed on every instance. Called inside the transaction that changes a
+   * reward; the cluster event is delivered when it commits.
+   */
+  public void rewardsChanged() {
+    invalidateAll();
+    clusterEventBus.publish(CHANNEL, "");
+  }
+
+  /** Reload the map on a fixed interval so requests never wait for it. */
+  @Scheduled(
+      fixedDelayString = "${rewards.catalog.refresh-interval-ms}",
+      initialDelayString = "${rewards.catalog.refresh-interval-ms}")
+  public synchronized void refresh() {
+    experienceRewards.set(load());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    invalidateAll();
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Changes published while the listener was not subscribed were missed
+    invalidateAll();
+  }
+
+  /** Synchronized with reloads so a reload in progress cannot store an outdated map. */
+  @Override
+  public synchronized void invalidateAll() {
+    experienceRewards.set(null);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private synchronized Map<Long, Integer> reloadIfStale() {
+    Map<Long, Integer> current = experienceRewards.get();
+    if (current == null) {
+      current = load();
+      experienceRewards.set(current);
+    }
+    return current;
+  }
+
+  private Map<Long, Integer> load() {
+    Map<Long, Integer> loaded =
+        rewardRepository.findActiveByRewardType(RewardType.EXPERIENCE).stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    MissionRewardRow::getMissionId, MissionRewardRow::getRewardValue));
+    logger.debug("Reward catalog loaded with {} experience rewards", loaded.size());
+    return loaded;
+  }
+}
@@ -0,0 +1,157 @@
+package waterballsa.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import waterballsa.cluster.ClusterEventBus;
+import waterballsa.cluster.ClusterEventHandler;
+import waterballsa.repository.UserRepository;
+import waterballsa.repository.UserTokenEpochRow;
+import waterballsa.util.VerifiedToken;
+
+/**
+ * In-memory copy of {@code users.token_epoch}, replicated across instances.
+ *
+ * <p>Every token carries the epoch its user had when it was issued; a token is current only while
+ * that epoch is not lower than the user's epoch here. Bumping the epoch (logout from all sessions)
+ * or soft-deleting the user therefore invalidates all tokens issued so far. Only users with a
+ * non-default epoch are kept, and soft-deleted users are stored as {@link #DELETED} until their
+ * last tokens have expired.
+ *
+ * <p>Changes are broadcast on the {@value #CHANNEL} cluster channel as {@code <userId>:<epoch>} and
+ * the map is reloaded from the database on a schedule and whenever the cluster listener
+ * re-subscribes.
+ */
+@Component
+public class TokenEpochRegistry implements LocalCache, ClusterEventHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(TokenEpochRegistry.class);
+
+  /** Cluster channel carrying {@code <userId>:<epoch>} payloads. */
+  public static final String CHANNEL = "token_epoch";
+
+  /** Epoch of a soft-deleted user; no token can ever match it. */
+  public static final int DELETED = Integer.MAX_VALUE;
+
+  private static final int DEFAULT_EPOCH = 0;
+
+  private final UserRepository userRepository;
+  private final ClusterEventBus clusterEventBus;
+  private final Duration tokenLifetime;
+
+  private volatile Map<Long, Integer> epochs = new ConcurrentHashMap<>();
+
+  // True while the cluster listener is subscribed, i.e. every epoch change reaches this registry
+  private volatile boolean subscribed;
+
+  public TokenEpochRegistry(
+      UserRepository userRepository,
+      ClusterEventBus clusterEventBus,
+      @Value("${jwt.expiration-ms}") long tokenLifetimeMs) {
+    this.userRepository = userRepository;
+    this.clusterEventBus = clusterEventBus;
+    this.tokenLifetime = Duration.ofMillis(tokenLifetimeMs);
+  }
+
+  /**
+   * Check whether the token was issued at or after the user's current epoch.
+   *
+   * @param token verified token
+   * @return true if the token has not been invalidated by an epoch bump or soft delete
+   */
+  public boolean isCurrent(VerifiedToken token) {
+    return token.tokenEpoch() >= epochs.getOrDefault(token.userId(), DEFAULT_EPOCH);
+  }
+
+  /**
+   * @return true while epoch changes from all instances are being received
+   */
+  public boolean isSubscribed() {
+    return subscribed;
+  }
+
+  /**
+   * Record the user's epoch and broadcast it if it moved forward. Called inside the transaction
+   * that persists the change; the cluster event is delivered when it commits.
+   *
+   * @param userId user ID
+   * @param epoch new epoch, or {@link #DELETED}
+   */
+  public void update(Long userId, int epoch) {
+    if (epoch <= epochs.getOrDefault(userId, DEFAULT_EPOCH)) {
+      return;
+    }
+    apply(userId, epoch);
+    clusterEventBus.publish(CHANNEL, userId + ":" + epoch);
+  }
+
+  /** Load all non-default epochs from the database once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    reload();
+  }
+
+  /** Replace the map with the current database state, dropping changes that were rolled back. */
+  @Scheduled(
+      fixedDelayString = "${jwt.epoch.reload-interval-ms}",
+      initialDelayString = "${jwt.epoch.reload-interval-ms}")
+  public synchronized void reload() {
+    // Tokens of users deleted longer ago than the token lifetime have all expired
+    List<UserTokenEpochRow> rows =
+        userRepository.findTokenEpochs(LocalDateTime.now().minus(tokenLifetime));
+
+    Map<Long, Integer> loaded = new ConcurrentHashMap<>();
+    rows.forEach(row -> loaded.put(row.getId(), row.getDeleted() ? DELETED : row.getTokenEpoch()));
+    epochs = loaded;
+
+    logger.debug("Token epoch registry reloaded with {} entries", loaded.size());
+  }
+
+  @Override
+  public String channel() {
+    return CHANNEL;
+  }
+
+  @Override
+  public void onEvent(String payload) {
+    int separator = payload.indexOf(':');
+    if (separator < 0) {
+      logger.warn("Ignoring malformed token epoch event: {}", payload);
+      return;
+    }
+    apply(
+        Long.valueOf(payload.substring(0, separator)),
+        Integer.parseInt(payload.substring(separator + 1)));
+  }
+
+  @Override
+  public void onSubscribed() {
+    // Catch up on epoch changes published while the listener was not subscribed
+    reload();
+    subscribed = true;
+  }
+
+  @Override
+  public void onDisconnected() {
+    subscribed = false;
+  }
+
+  @Override
+  public void invalidateAll() {
+    reload();
+  }
+
+  // Synchronized with reload() so an event is never applied to a map that is about to be replaced
+  private synchronized void apply(Long userId, int epoch) {
+    epochs.merge(userId, epoch, Math::max);
+  }
+}
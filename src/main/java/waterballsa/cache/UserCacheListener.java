@@ -0,0 +1,50 @@
+package waterballsa.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import waterballsa.entity.User;
+
+/**
+ * JPA entity listener that keeps {@link ActiveUserCache}, {@link TokenEpochRegistry} and {@link
+ * LeaderboardIndex} in sync with registration, {@link User#softDelete()} and {@link
+ * User#bumpTokenEpoch()}.
+ *
+ * <p>Registered on {@link User} via {@code @EntityListeners}; Hibernate obtains it from the Spring
+ * context so dependencies are injected. The caches are injected lazily because the listener is
+ * created while the entity manager factory (which the caches' repository needs) is being built.
+ */
+@Component
+public class UserCacheListener {
+
+  private final ActiveUserCache activeUserCache;
+  private final TokenEpochRegistry tokenEpochRegistry;
+  private final LeaderboardIndex leaderboardIndex;
+
+  public UserCacheListener(
+      @Lazy ActiveUserCache activeUserCache,
+      @Lazy TokenEpochRegistry tokenEpochRegistry,
+      @Lazy LeaderboardIndex leaderboardIndex) {
+    this.activeUserCache = activeUserCache;
+    this.tokenEpochRegistry = tokenEpochRegistry;
+    this.leaderboardIndex = leaderboardIndex;
+  }
+
+  @PostPersist
+  public void onCreate(User user) {
+    leaderboardIndex.scoreChanged(user.getId(), user.getExperiencePoints());
+  }
+
+  @PostUpdate
+  public void onUpdate(User user) {
+    if (user.isDeleted()) {
+      activeUserCache.userDeleted(user.getId());
+      tokenEpochRegistry.update(user.getId(), TokenEpochRegistry.DELETED);
+      leaderboardIndex.userRemoved(user.getId());
+    } else {
+      // Only broadcast when the epoch actually moved forward
+      tokenEpochRegistry.update(user.getId(), user.getTokenEpoch());
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package waterballsa.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import waterballsa.util.JwtUtil;
+import waterballsa.util.VerifiedToken;
+
+/**
+ * In-memory cache of verified JWT claims, placed in front of {@link JwtUtil}.
+ *
+ * <p>Entries are keyed by the SHA-256 digest of the raw token so the cache never holds bearer
+ * tokens themselves. Each entry expires exactly when its token does, and logout evicts the entry
+ * explicitly. Only successfully verified tokens are cached; invalid tokens always go through full
+ * verification.
+ *
+ * <p>Hit/miss statistics are published to Micrometer under the cache name {@value #CACHE_NAME}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private static final String CACHE_NAME = "jwt.verified-tokens";
+
+  private final JwtUtil jwtUtil;
+  private final Cache<String, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+      JwtUtil jwtUtil,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.cache.maximum-size}") long maximumSize) {
+    this.jwtUtil = jwtUtil;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(Expiry.creating((String key, VerifiedToken token) -> timeToLive(token)))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Verify the token, returning cached claims when the same token has been verified before.
+   *
+   * @param token JWT token to verify
+   * @return the verified claims, or empty if the token is invalid or expired
+   */
+  public Optional<VerifiedToken> verify(String token) {
+    return Optional.ofNullable(cache.get(digest(token), key -> jwtUtil.verify(token).orElse(null)));
+  }
+
+  /**
+   * Evict the cached claims of the given token (used on logout).
+   *
+   * @param token JWT token to evict
+   */
+  public void evict(String token) {
+    cache.invalidate(digest(token));
+  }
+
+  private static Duration timeToLive(VerifiedToken token) {
+    Duration remaining = Duration.between(LocalDateTime.now(), token.expiresAt());
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required to be available on every Java platform
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+}
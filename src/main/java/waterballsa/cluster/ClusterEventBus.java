@@ -0,0 +1,187 @@
+package waterballsa.cluster;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide event channel built on PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>{@link #publish(String, String)} issues {@code pg_notify} on the caller's connection, so when
+ * called inside a transaction the event is delivered only after that transaction commits. Every
+ * instance keeps one dedicated connection (outside the Hikari pool) that listens on the channels of
+ * all {@link ClusterEventHandler} beans and dispatches incoming events to them.
+ *
+ * <p>If the listener connection drops it is re-established after a delay, and handlers are told
+ * through {@link ClusterEventHandler#onDisconnected()} and {@link
+ * ClusterEventHandler#onSubscribed()} so they can fall back to the database and catch up.
+ */
+@Component
+public class ClusterEventBus implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(ClusterEventBus.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSourceProperties dataSourceProperties;
+  private final ObjectProvider<ClusterEventHandler> handlerProvider;
+  private final int pollTimeoutMs;
+  private final long reconnectDelayMs;
+
+  private volatile boolean running;
+  private volatile Thread listenerThread;
+  private volatile Connection listenerConnection;
+
+  public ClusterEventBus(
+      JdbcTemplate jdbcTemplate,
+      DataSourceProperties dataSourceProperties,
+      ObjectProvider<ClusterEventHandler> handlerProvider,
+      @Value("${cluster.events.poll-timeout-ms}") int pollTimeoutMs,
+      @Value("${cluster.events.reconnect-delay-ms}") long reconnectDelayMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSourceProperties = dataSourceProperties;
+    this.handlerProvider = handlerProvider;
+    this.pollTimeoutMs = pollTimeoutMs;
+    this.reconnectDelayMs = reconnectDelayMs;
+  }
+
+  /**
+   * Publish an event to all instances (including this one).
+   *
+   * @param channel channel name
+   * @param payload event payload (must be shorter than 8000 bytes)
+   */
+  public void publish(String channel, String payload) {
+    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+  }
+
+  @Override
+  public void start() {
+    List<ClusterEventHandler> handlers = handlerProvider.orderedStream().toList();
+    if (handlers.isEmpty()) {
+      return;
+    }
+    running = true;
+    Thread thread = new Thread(() -> listen(handlers), "cluster-event-listener");
+    thread.setDaemon(true);
+    thread.start();
+    listenerThread = thread;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    closeQuietly(listenerConnection);
+    Thread thread = listenerThread;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // ==================== Helper Methods ====================
+
+  private void listen(List<ClusterEventHandler> handlers) {
+    Map<String, List<ClusterEventHandler>> handlersByChannel =
+        handlers.stream().collect(Collectors.groupingBy(ClusterEventHandler::channel));
+
+    while (running) {
+      try (Connection connection = openConnection()) {
+        listenerConnection = connection;
+        try (Statement statement = connection.createStatement()) {
+          for (String channel : handlersByChannel.keySet()) {
+            statement.execute("LISTEN " + channel);
+          }
+        }
+        logger.info("Listening for cluster events on channels {}", handlersByChannel.keySet());
+        handlers.forEach(ClusterEventHandler::onSubscribed);
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+          if (notifications == null || notifications.length == 0) {
+            // A silently dropped socket never yields notifications, so probe it while idle
+            if (!connection.isValid(pollTimeoutMs / 1000 + 1)) {
+              throw new SQLException("Listener connection is no longer valid");
+            }
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            dispatch(handlersByChannel, notification);
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (running) {
+          logger.warn("Cluster event listener disconnected: {}", e.getMessage());
+        }
+      } finally {
+        listenerConnection = null;
+        handlers.forEach(ClusterEventHandler::onDisconnected);
+      }
+
+      if (running) {
+        sleepBeforeReconnect();
+      }
+    }
+  }
+
+  private void dispatch(
+      Map<String, List<ClusterEventHandler>> handlersByChannel, PGNotification notification) {
+    for (ClusterEventHandler handler :
+        handlersByChannel.getOrDefault(notification.getName(), List.of())) {
+      try {
+        handler.onEvent(notification.getParameter());
+      } catch (RuntimeException e) {
+        logger.error(
+            "Failed to handle cluster event on channel {}: {}",
+            notification.getName(),
+            e.getMessage(),
+            e);
+      }
+    }
+  }
+
+  private Connection openConnection() throws SQLException {
+    return DriverManager.getConnection(
+        dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword());
+  }
+
+  private void sleepBeforeReconnect() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    if (connection == null) {
+      return;
+    }
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      logger.debug("Failed to close listener connection: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package waterballsa.cluster;
+
+/**
+ * Receives events published by any instance on a {@link ClusterEventBus} channel.
+ *
+ * <p>Implementations are discovered as Spring beans when the bus starts.
+ */
+public interface ClusterEventHandler {
+
+  /**
+   * @return the channel this handler listens to (a plain PostgreSQL identifier)
+   */
+  String channel();
+
+  /**
+   * Handle an event payload. Called on the listener thread, so implementations must be quick and
+   * thread-safe.
+   *
+   * @param payload event payload as published
+   */
+  void onEvent(String payload);
+
+  /**
+   * Called after the listener has (re)subscribed to the channel. Events published while the
+   * listener was disconnected are lost, so handlers should catch up from the database here.
+   */
+  default void onSubscribed() {}
+
+  /** Called when the listener connection is lost; events may be missed until re-subscribed. */
+  default void onDisconnected() {}
+}
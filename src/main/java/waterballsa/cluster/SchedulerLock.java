@@ -0,0 +1,88 @@
+package waterballsa.cluster;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide lock for scheduled jobs, so that a job runs on only one instance at a time.
+ *
+ * <p>Each job has a row in {@code scheduler_locks}. An instance takes the lock by moving the row's
+ * {@code lock_until} into the future, which only succeeds when the previous lease has ended, and
+ * releases it by ending the lease when the job finishes. If an instance dies while holding the
+ * lock, the lease simply runs out. Unlike an advisory lock, the lease is not tied to a connection,
+ * so a job can span many short transactions. All times come from the database clock.
+ *
+ * <p>Must be called outside a transaction: the lock is taken and released immediately
+ * (auto-commit).
+ */
+@Component
+public class SchedulerLock {
+
+  private static final Logger logger = LoggerFactory.getLogger(SchedulerLock.class);
+
+  // Inserts the row on first use; an existing row is only taken over once its lease has ended
+  private static final String LOCK_SQL =
+      "INSERT INTO scheduler_locks (name, lock_until, locked_at, locked_by) "
+          + "VALUES (?, NOW() + ? * INTERVAL '1 millisecond', NOW(), ?) "
+          + "ON CONFLICT (name) DO UPDATE SET lock_until = EXCLUDED.lock_until, "
+          + "locked_at = EXCLUDED.locked_at, locked_by = EXCLUDED.locked_by "
+          + "WHERE scheduler_locks.lock_until <= NOW()";
+
+  private static final String UNLOCK_SQL =
+      "UPDATE scheduler_locks SET lock_until = NOW() WHERE name = ? AND locked_by = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // "<pid>@<hostname>", unique per running instance
+  private final String instanceName = ManagementFactory.getRuntimeMXBean().getName();
+
+  public SchedulerLock(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Run the task if no other instance is running the job, holding the lock meanwhile.
+   *
+   * @param name job name
+   * @param lockAtMostFor lease length; must exceed the job's longest run, because another instance
+   *     may take the lock once it ends
+   * @param task the job
+   * @return true if the task ran, false if another instance holds the lock
+   */
+  public boolean runExclusively(String name, Duration lockAtMostFor, Runnable task) {
+    if (!tryLock(name, lockAtMostFor)) {
+      logger.debug("Skipping job {}: locked by another instance", name);
+      return false;
+    }
+    try {
+      task.run();
+      return true;
+    } finally {
+      unlock(name);
+    }
+  }
+
+  /**
+   * Take the job's lock if it is free.
+   *
+   * @param name job name
+   * @param lockAtMostFor lease length
+   * @return true if the lock was taken
+   */
+  public boolean tryLock(String name, Duration lockAtMostFor) {
+    return jdbcTemplate.update(LOCK_SQL, name, lockAtMostFor.toMillis(), instanceName) == 1;
+  }
+
+  /**
+   * Release the job's lock if this instance holds it.
+   *
+   * @param name job name
+   */
+  public void unlock(String name) {
+    jdbcTemplate.update(UNLOCK_SQL, name, instanceName);
+  }
+}
@@ -76,7 +76,12 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             auth ->
                 auth.requestMatchers(
-                        "/auth/register", "/auth/login", "/healthz", "/actuator/**", "/journeys/**")
+                        "/auth/register",
+                        "/auth/login",
+                        "/healthz",
+                        "/actuator/health/**",
+                        "/actuator/info",
+                        "/journeys/**")
                     .permitAll()
                     .anyRequest()
                     .authenticated())
@@ -87,6 +87,20 @@ public class AuthController {
     return ResponseEntity.ok(response);
   }
 
+  @PostMapping("/logout-all")
+  public ResponseEntity<LogoutResponse> logoutAll(HttpServletRequest request) {
+    logger.debug("Logout all sessions request received");
+
+    String authHeader = request.getHeader("Authorization");
+    String token = authHeader.substring(7);
+
+    LogoutResponse response = authService.logoutAll(token);
+
+    logger.info("User logout from all sessions successful");
+
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Get client IP address from HTTP request
    *
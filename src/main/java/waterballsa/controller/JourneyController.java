@@ -2,13 +2,18 @@ package waterballsa.controller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import waterballsa.cache.JourneyCatalog;
 import waterballsa.dto.JourneyDetailResponse;
-import waterballsa.dto.JourneyListResponse;
 import waterballsa.service.JourneyService;
 
 @RestController
@@ -18,41 +23,76 @@ public class JourneyController {
   private static final Logger logger = LoggerFactory.getLogger(JourneyController.class);
 
   private final JourneyService journeyService;
+  private final JourneyCatalog journeyCatalog;
 
-  public JourneyController(JourneyService journeyService) {
+  public JourneyController(JourneyService journeyService, JourneyCatalog journeyCatalog) {
     this.journeyService = journeyService;
+    this.journeyCatalog = journeyCatalog;
   }
 
   /**
-   * Get all journeys.
+   * Get all journeys. Served from the pre-serialized journey catalog snapshot.
    *
-   * @return Journey list response
+   * @param webRequest current request (for If-None-Match handling)
+   * @return Journey list response as JSON, or 304 if the client's copy is current
    */
   @GetMapping
-  public ResponseEntity<JourneyListResponse> getJourneys() {
+  public ResponseEntity<byte[]> getJourneys(WebRequest webRequest) {
     logger.debug("GET /journeys request received");
 
-    JourneyListResponse response = journeyService.getJourneys();
+    JourneyCatalog.Snapshot catalog = journeyCatalog.getSnapshot();
+    if (webRequest.checkNotModified(catalog.etag())) {
+      logger.debug("Journey catalog not modified");
+      return null;
+    }
 
-    logger.info("Successfully returned journey list with {} journeys", response.journeys().size());
+    logger.debug("Returned journey catalog ({} bytes)", catalog.json().length);
 
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(catalog.json());
   }
 
   /**
    * Get journey details with chapters and missions.
    *
+   * <p>Anonymous responses are the same for every client and carry the journey tree's ETag, so a
+   * matching If-None-Match is answered with 304. Authenticated responses include the user's mission
+   * statuses and get no ETag; {@code Vary: Authorization} keeps shared caches from mixing the two.
+   *
    * @param journeyId Journey ID
-   * @return Journey details response
+   * @return Journey details response, or 304 if the anonymous client's copy is current
    */
   @GetMapping("/{journeyId}")
   public ResponseEntity<JourneyDetailResponse> getJourneyDetail(@PathVariable Long journeyId) {
     logger.debug("GET /journeys/{} request received", journeyId);
 
-    JourneyDetailResponse response = journeyService.getJourneyDetail(journeyId);
+    Long userId = getCurrentUserId();
+
+    JourneyDetailResponse response = journeyService.getJourneyDetail(journeyId, userId);
+
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok().varyBy(HttpHeaders.AUTHORIZATION);
+    if (userId == null) {
+      // Spring answers a matching If-None-Match with 304 based on this ETag
+      journeyService.getJourneyDetailETag(journeyId).ifPresent(builder::eTag);
+    }
+
+    logger.info(
+        "Successfully returned journey details for journeyId: {}, userId: {}", journeyId, userId);
+
+    return builder.body(response);
+  }
+
+  private Long getCurrentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return null;
+    }
 
-    logger.info("Successfully returned journey details for journeyId: {}", journeyId);
+    Object principal = authentication.getPrincipal();
+    if (principal instanceof Long) {
+      return (Long) principal;
+    }
 
-    return ResponseEntity.ok(response);
+    return null;
   }
 }
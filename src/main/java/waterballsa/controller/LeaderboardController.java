@@ -0,0 +1,42 @@
+package waterballsa.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import waterballsa.dto.LeaderboardResponse;
+import waterballsa.service.LeaderboardService;
+
+@RestController
+@RequestMapping("/leaderboard")
+public class LeaderboardController {
+
+  private static final Logger logger = LoggerFactory.getLogger(LeaderboardController.class);
+
+  private final LeaderboardService leaderboardService;
+
+  public LeaderboardController(LeaderboardService leaderboardService) {
+    this.leaderboardService = leaderboardService;
+  }
+
+  /**
+   * Get the XP leaderboard.
+   *
+   * @param limit Maximum number of entries
+   * @param around User ID to center the page on; the top of the leaderboard if omitted
+   * @return Leaderboard response with ranked entries, best first
+   */
+  @GetMapping
+  public ResponseEntity<LeaderboardResponse> getLeaderboard(
+      @RequestParam(defaultValue = "10") int limit, @RequestParam(required = false) Long around) {
+    logger.debug("GET /leaderboard request received (limit={}, around={})", limit, around);
+
+    LeaderboardResponse response = leaderboardService.getLeaderboard(limit, around);
+
+    logger.info("Successfully returned {} leaderboard entries", response.entries().size());
+    return ResponseEntity.ok(response);
+  }
+}
@@ -1,5 +1,6 @@
 package waterballsa.controller;
 
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import waterballsa.dto.MissionDetailResponse;
 import waterballsa.service.MissionService;
 
@@ -27,18 +29,29 @@ public class MissionController {
   /**
    * Get mission details.
    *
+   * <p>The ETag is computed (and access validated) from scalar columns before the mission entity is
+   * loaded, so a matching If-None-Match is answered with 304 without loading the mission.
+   *
    * @param journeyId Journey ID
    * @param missionId Mission ID
-   * @return Mission details response
+   * @param webRequest current request (for If-None-Match handling)
+   * @return Mission details response, or 304 if the client's copy is current
    */
   @GetMapping("/{journeyId}/missions/{missionId}")
   public ResponseEntity<MissionDetailResponse> getMissionDetail(
-      @PathVariable Long journeyId, @PathVariable Long missionId) {
+      @PathVariable Long journeyId, @PathVariable Long missionId, WebRequest webRequest) {
     logger.debug("GET /journeys/{}/missions/{} request received", journeyId, missionId);
 
     // Get current user ID if authenticated
     Long userId = getCurrentUserId();
 
+    // checkNotModified also sets the ETag header on the full response
+    Optional<String> etag = missionService.getMissionDetailETag(journeyId, missionId, userId);
+    if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+      logger.debug("Mission {} not modified", missionId);
+      return null;
+    }
+
     MissionDetailResponse response = missionService.getMissionDetail(journeyId, missionId, userId);
 
     logger.info(
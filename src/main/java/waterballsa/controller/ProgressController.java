@@ -1,5 +1,6 @@
 package waterballsa.controller;
 
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +14,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import waterballsa.dto.BatchUpdateProgressRequest;
+import waterballsa.dto.BatchUpdateProgressResponse;
 import waterballsa.dto.DeliverResponse;
 import waterballsa.dto.UpdateProgressRequest;
 import waterballsa.dto.UserMissionProgressResponse;
@@ -86,6 +89,34 @@ public class ProgressController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Update user's progress for many missions at once (upsert).
+   *
+   * @param userId User ID from path
+   * @param request Batch of mission IDs with watchPositionSeconds
+   * @return Updated progress of each mission
+   */
+  @PutMapping("/{userId}/progress:batch")
+  public ResponseEntity<BatchUpdateProgressResponse> updateProgressBatch(
+      @PathVariable @NonNull Long userId, @Valid @RequestBody BatchUpdateProgressRequest request) {
+    logger.debug(
+        "PUT /users/{}/progress:batch request received with {} entries",
+        userId,
+        request.progress().size());
+
+    Long currentUserId = getCurrentUserId();
+
+    BatchUpdateProgressResponse response =
+        progressService.updateProgressBatch(userId, request.progress(), currentUserId);
+
+    logger.info(
+        "Successfully updated {} progress entries for userId: {}",
+        response.progress().size(),
+        userId);
+
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * Deliver a mission to receive experience points.
    *
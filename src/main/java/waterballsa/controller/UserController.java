@@ -47,15 +47,24 @@ public class UserController {
   public ResponseEntity<OrderListResponse> getUserOrders(
       @PathVariable Long userId,
       @RequestParam(defaultValue = "1") int page,
-      @RequestParam(defaultValue = "20") int limit) {
+      @RequestParam(defaultValue = "20") int limit,
+      @RequestParam(required = false) String after) {
 
-    logger.debug("GET /users/{}/orders request received (page={}, limit={})", userId, page, limit);
+    logger.debug(
+        "GET /users/{}/orders request received (page={}, limit={}, after={})",
+        userId,
+        page,
+        limit,
+        after);
 
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     Long authenticatedUserId = (Long) authentication.getPrincipal();
 
+    // A cursor takes precedence over the page number
     OrderListResponse response =
-        userService.getUserOrders(userId, authenticatedUserId, page, limit);
+        after != null
+            ? userService.getUserOrdersAfter(userId, authenticatedUserId, after, limit)
+            : userService.getUserOrders(userId, authenticatedUserId, page, limit);
 
     logger.info("Successfully retrieved orders for user {}", userId);
     return ResponseEntity.ok(response);
@@ -0,0 +1,21 @@
+package waterballsa.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BatchUpdateProgressRequest(
+    @NotEmpty(message = "Progress cannot be empty")
+        @Size(max = 500, message = "Progress cannot contain more than 500 entries")
+        @Valid
+        List<ProgressEntry> progress) {
+
+  public record ProgressEntry(
+      @NotNull(message = "Mission ID is required")
+          @Positive(message = "Mission ID must be positive")
+          Long missionId,
+      Integer watchPositionSeconds) {}
+}
@@ -0,0 +1,5 @@
+package waterballsa.dto;
+
+import java.util.List;
+
+public record BatchUpdateProgressResponse(List<UserMissionProgressResponse> progress) {}
@@ -2,5 +2,15 @@ package waterballsa.dto;
 
 import java.util.List;
 
+/**
+ * Chapter of a journey detail.
+ *
+ * @param completedMissionCount number of missions the current user has completed or delivered, or
+ *     null for anonymous requests
+ */
 public record ChapterDTO(
-    Long id, String title, Integer orderIndex, List<MissionSummaryDTO> missions) {}
+    Long id,
+    String title,
+    Integer orderIndex,
+    List<MissionSummaryDTO> missions,
+    Integer completedMissionCount) {}
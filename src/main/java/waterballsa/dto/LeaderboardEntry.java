@@ -0,0 +1,4 @@
+package waterballsa.dto;
+
+public record LeaderboardEntry(
+    Integer rank, Long userId, String username, Integer experiencePoints, Integer level) {}
@@ -0,0 +1,5 @@
+package waterballsa.dto;
+
+import java.util.List;
+
+public record LeaderboardResponse(List<LeaderboardEntry> entries, Integer totalUsers) {}
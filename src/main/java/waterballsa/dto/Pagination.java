@@ -1,3 +1,11 @@
 package waterballsa.dto;
 
-public record Pagination(Integer page, Integer limit, Long total) {}
+/**
+ * Pagination info of a list response.
+ *
+ * @param page page number (1-indexed), null for cursor pages
+ * @param limit items per page
+ * @param total total number of items, null for cursor pages (not counted)
+ * @param nextCursor cursor for the page after this one, null if this is the last page
+ */
+public record Pagination(Integer page, Integer limit, Long total, String nextCursor) {}
@@ -4,9 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import waterballsa.cache.ContentChangeListener;
 
 @Entity
 @Table(name = "chapters")
+@EntityListeners(ContentChangeListener.class)
 public class Chapter {
 
   @Id
@@ -0,0 +1,87 @@
+package waterballsa.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Append-only record of experience points granted to a user. Events are folded into {@code
+ * users.experience_points} by the aggregator, which only ever sets {@code aggregated_at}.
+ */
+@Entity
+@Immutable
+@Table(name = "experience_events")
+public class ExperienceEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "mission_id")
+  private Long missionId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "event_type", nullable = false, columnDefinition = "experience_event_type")
+  private ExperienceEventType eventType;
+
+  @Column(name = "points", nullable = false)
+  private Integer points;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "aggregated_at", insertable = false, updatable = false)
+  private LocalDateTime aggregatedAt;
+
+  protected ExperienceEvent() {
+    // JPA requires a no-arg constructor
+  }
+
+  public ExperienceEvent(
+      Long userId, Long missionId, ExperienceEventType eventType, Integer points) {
+    this.userId = userId;
+    this.missionId = missionId;
+    this.eventType = eventType;
+    this.points = points;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    this.createdAt = LocalDateTime.now();
+  }
+
+  // Getters
+  public Long getId() {
+    return id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public Long getMissionId() {
+    return missionId;
+  }
+
+  public ExperienceEventType getEventType() {
+    return eventType;
+  }
+
+  public Integer getPoints() {
+    return points;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getAggregatedAt() {
+    return aggregatedAt;
+  }
+}
@@ -0,0 +1,9 @@
+package waterballsa.entity;
+
+/** Source of an experience event. */
+public enum ExperienceEventType {
+  /** Total a user had before the ledger was introduced. */
+  OPENING_BALANCE,
+  /** Reward for delivering a mission. */
+  MISSION_DELIVERED
+}
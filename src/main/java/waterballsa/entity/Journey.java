@@ -5,9 +5,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import waterballsa.cache.ContentChangeListener;
 
 @Entity
 @Table(name = "journeys")
+@EntityListeners(ContentChangeListener.class)
 public class Journey {
 
   @Id
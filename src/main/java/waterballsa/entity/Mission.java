@@ -6,9 +6,11 @@ import java.util.ArrayList;
 import java.util.List;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import waterballsa.cache.ContentChangeListener;
 
 @Entity
 @Table(name = "missions")
+@EntityListeners(ContentChangeListener.class)
 public class Mission {
 
   @Id
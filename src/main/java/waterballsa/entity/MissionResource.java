@@ -4,9 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import waterballsa.cache.ContentChangeListener;
 
 @Entity
 @Table(name = "mission_resources")
+@EntityListeners(ContentChangeListener.class)
 public class MissionResource {
 
   @Id
@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import org.springframework.lang.NonNull;
@@ -53,6 +54,8 @@ public class Order {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
+  // Items of a whole page of orders are loaded with one IN query instead of one query per order
+  @BatchSize(size = 100)
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<OrderItem> items = new ArrayList<>();
 
@@ -101,12 +104,23 @@ public class Order {
     return this.status == OrderStatus.PAID;
   }
 
-  public void markAsExpired() {
-    this.status = OrderStatus.EXPIRED;
+  /**
+   * Get the status as of now. An unpaid order whose payment deadline has passed is EXPIRED, even
+   * before the expiry job has updated its stored status.
+   *
+   * @return effective order status
+   */
+  public OrderStatus getEffectiveStatus() {
+    if (this.status == OrderStatus.UNPAID
+        && this.expiredAt != null
+        && !this.expiredAt.isAfter(LocalDateTime.now())) {
+      return OrderStatus.EXPIRED;
+    }
+    return this.status;
   }
 
   public boolean isExpired() {
-    return this.status == OrderStatus.EXPIRED;
+    return getEffectiveStatus() == OrderStatus.EXPIRED;
   }
 
   public void softDelete() {
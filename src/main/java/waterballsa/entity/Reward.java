@@ -0,0 +1,96 @@
+package waterballsa.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import waterballsa.cache.ContentChangeListener;
+
+@Entity
+@Table(name = "rewards")
+@EntityListeners(ContentChangeListener.class)
+public class Reward {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "mission_id", nullable = false)
+  private Mission mission;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "reward_type", nullable = false, columnDefinition = "reward_type")
+  private RewardType rewardType;
+
+  @Column(name = "reward_value", nullable = false)
+  private Integer rewardValue;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(name = "deleted_at")
+  private LocalDateTime deletedAt;
+
+  protected Reward() {
+    // JPA requires a no-arg constructor
+  }
+
+  public Reward(Mission mission, RewardType rewardType, Integer rewardValue) {
+    this.mission = mission;
+    this.rewardType = rewardType;
+    this.rewardValue = rewardValue;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    this.createdAt = LocalDateTime.now();
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public void softDelete() {
+    this.deletedAt = LocalDateTime.now();
+  }
+
+  public boolean isDeleted() {
+    return this.deletedAt != null;
+  }
+
+  // Getters
+  public Long getId() {
+    return id;
+  }
+
+  public Mission getMission() {
+    return mission;
+  }
+
+  public RewardType getRewardType() {
+    return rewardType;
+  }
+
+  public Integer getRewardValue() {
+    return rewardValue;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public LocalDateTime getDeletedAt() {
+    return deletedAt;
+  }
+}
@@ -0,0 +1,6 @@
+package waterballsa.entity;
+
+/** Reward type enumeration. */
+public enum RewardType {
+  EXPERIENCE
+}
@@ -2,11 +2,17 @@ package waterballsa.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import waterballsa.cache.UserCacheListener;
 
 @Entity
 @Table(name = "users")
+// Experience points and level are written by set-based SQL (the experience ledger aggregator), so a
+// loaded User may hold stale values; only write the columns changed on the entity
+@DynamicUpdate
+@EntityListeners(UserCacheListener.class)
 public class User {
 
   @Id
@@ -30,6 +36,9 @@ public class User {
   @Column(name = "level", nullable = false)
   private Integer level;
 
+  @Column(name = "token_epoch", nullable = false)
+  private Integer tokenEpoch;
+
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
@@ -49,6 +58,7 @@ public class User {
     this.role = UserRole.STUDENT;
     this.experiencePoints = 0;
     this.level = 1;
+    this.tokenEpoch = 0;
   }
 
   @PrePersist
@@ -87,6 +97,10 @@ public class User {
     return level;
   }
 
+  public Integer getTokenEpoch() {
+    return tokenEpoch;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
@@ -108,9 +122,9 @@ public class User {
     this.deletedAt = LocalDateTime.now();
   }
 
-  public void addExperience(Integer points) {
-    this.experiencePoints += points;
-    // Level calculation will be implemented later
+  /** Invalidate all tokens issued to this user so far. */
+  public void bumpTokenEpoch() {
+    this.tokenEpoch += 1;
   }
 
   public enum UserRole {
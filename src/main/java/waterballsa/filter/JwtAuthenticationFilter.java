@@ -5,16 +5,20 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import waterballsa.repository.AccessTokenRepository;
-import waterballsa.repository.UserRepository;
-import waterballsa.util.JwtUtil;
+import waterballsa.cache.ActiveUserCache;
+import waterballsa.cache.RevokedTokenIndex;
+import waterballsa.cache.TokenEpochRegistry;
+import waterballsa.cache.VerifiedTokenCache;
+import waterballsa.util.VerifiedToken;
 
 /**
  * JWT Authentication Filter that validates JWT tokens from Authorization header.
@@ -23,11 +27,19 @@ import waterballsa.util.JwtUtil;
  *
  * <ul>
  *   <li>Extracts Bearer token from Authorization header
- *   <li>Validates the token using JwtUtil
- *   <li>Checks if token is blacklisted
- *   <li>Verifies user exists and is not deleted
+ *   <li>Verifies the token signature once (or reuses cached claims) and reads all claims from the
+ *       result
+ *   <li>Checks the token epoch claim against the user's current epoch (logout from all sessions)
+ *   <li>Checks if token is blacklisted using the in-memory revoked token index
+ *   <li>Verifies user exists and is not deleted using the active user cache
  *   <li>Sets authentication in SecurityContext if token is valid
  * </ul>
+ *
+ * <p>In stateless mode ({@code jwt.stateless.enabled}) the user check is skipped: soft delete marks
+ * the user in the token epoch registry, so the epoch comparison already rejects a deleted user's
+ * tokens. The check is still done while changes from other instances may be missed (cluster
+ * listener not subscribed). The blacklist check is in memory and always done, so logout stays per
+ * token and earlier revocations keep holding.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -36,15 +48,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_PREFIX = "Bearer ";
 
-  private final JwtUtil jwtUtil;
-  private final AccessTokenRepository accessTokenRepository;
-  private final UserRepository userRepository;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final RevokedTokenIndex revokedTokenIndex;
+  private final ActiveUserCache activeUserCache;
+  private final TokenEpochRegistry tokenEpochRegistry;
+  private final boolean statelessEnabled;
 
   public JwtAuthenticationFilter(
-      JwtUtil jwtUtil, AccessTokenRepository accessTokenRepository, UserRepository userRepository) {
-    this.jwtUtil = jwtUtil;
-    this.accessTokenRepository = accessTokenRepository;
-    this.userRepository = userRepository;
+      VerifiedTokenCache verifiedTokenCache,
+      RevokedTokenIndex revokedTokenIndex,
+      ActiveUserCache activeUserCache,
+      TokenEpochRegistry tokenEpochRegistry,
+      @Value("${jwt.stateless.enabled}") boolean statelessEnabled) {
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.revokedTokenIndex = revokedTokenIndex;
+    this.activeUserCache = activeUserCache;
+    this.tokenEpochRegistry = tokenEpochRegistry;
+    this.statelessEnabled = statelessEnabled;
   }
 
   @Override
@@ -63,31 +83,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = authHeader.substring(BEARER_PREFIX.length());
 
-    if (!jwtUtil.validateToken(token)) {
+    Optional<VerifiedToken> verified = verifiedTokenCache.verify(token);
+    if (verified.isEmpty()) {
       logger.debug("Invalid JWT token");
       filterChain.doFilter(request, response);
       return;
     }
 
     try {
-      // Check if token is blacklisted
-      String jti = jwtUtil.getJtiFromToken(token);
-      if (accessTokenRepository.existsByTokenJti(jti)) {
-        logger.debug("Token is blacklisted (logged out): {}", jti);
+      VerifiedToken verifiedToken = verified.get();
+      Long userId = verifiedToken.userId();
+      String username = verifiedToken.username();
+
+      // Check if token was issued before the user's current epoch
+      if (!tokenEpochRegistry.isCurrent(verifiedToken)) {
+        logger.debug("Token epoch is outdated for user {}", userId);
         filterChain.doFilter(request, response);
         return;
       }
 
-      Long userId = jwtUtil.getUserIdFromToken(token);
-      String username = jwtUtil.getUsernameFromToken(token);
-
-      // Verify user exists and is not deleted
-      if (!userRepository.findByIdAndDeletedAtIsNull(userId).isPresent()) {
-        logger.debug("User {} not found or has been deleted", userId);
+      // Check if token is blacklisted
+      String jti = verifiedToken.jti();
+      if (revokedTokenIndex.isRevoked(jti)) {
+        logger.debug("Token is blacklisted (logged out): {}", jti);
         filterChain.doFilter(request, response);
         return;
       }
 
+      if (!statelessEnabled || !tokenEpochRegistry.isSubscribed()) {
+        // Verify user exists and is not deleted
+        if (!activeUserCache.isActive(userId)) {
+          logger.debug("User {} not found or has been deleted", userId);
+          filterChain.doFilter(request, response);
+          return;
+        }
+      }
+
       // Create authentication object with userId as principal and username as credentials
       UsernamePasswordAuthenticationToken authentication =
           new UsernamePasswordAuthenticationToken(userId, username, null);
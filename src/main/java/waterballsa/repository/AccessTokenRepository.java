@@ -1,7 +1,12 @@
 package waterballsa.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import waterballsa.entity.AccessToken;
 
@@ -11,4 +16,38 @@ public interface AccessTokenRepository extends JpaRepository<AccessToken, Long>
   Optional<AccessToken> findByTokenJti(String tokenJti);
 
   boolean existsByTokenJti(String tokenJti);
+
+  /**
+   * Find all blacklisted tokens that have not expired yet.
+   *
+   * @param now current time
+   * @return list of unexpired blacklisted tokens
+   */
+  List<AccessToken> findByExpiresAtAfter(LocalDateTime now);
+
+  /**
+   * Find unexpired blacklisted tokens created after the given time (used for incremental refresh).
+   *
+   * @param since lower bound of the creation time (exclusive)
+   * @param now current time
+   * @return list of recently blacklisted tokens that have not expired yet
+   */
+  List<AccessToken> findByCreatedAtAfterAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+  /**
+   * Delete one chunk of expired blacklisted tokens. Rows locked by a concurrent purge on another
+   * instance are skipped instead of waited for.
+   *
+   * @param now current time
+   * @param batchSize maximum number of rows to delete
+   * @return number of deleted rows
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM access_tokens WHERE id IN ("
+              + "SELECT id FROM access_tokens WHERE expires_at < :now "
+              + "LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+      nativeQuery = true)
+  int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
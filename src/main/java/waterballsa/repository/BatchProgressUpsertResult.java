@@ -0,0 +1,7 @@
+package waterballsa.repository;
+
+/** Row returned by {@link UserMissionProgressRepository#upsertWatchPositions}. */
+public interface BatchProgressUpsertResult extends ProgressUpsertResult {
+
+  Long getMissionId();
+}
@@ -1,8 +1,18 @@
 package waterballsa.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import waterballsa.entity.Chapter;
 
 @Repository
-public interface ChapterRepository extends JpaRepository<Chapter, Long> {}
+public interface ChapterRepository extends JpaRepository<Chapter, Long> {
+
+  /**
+   * Find all non-deleted chapters of a journey ordered by their order index.
+   *
+   * @param journeyId Journey ID
+   * @return List of chapters
+   */
+  List<Chapter> findByJourneyIdAndDeletedAtIsNullOrderByOrderIndexAsc(Long journeyId);
+}
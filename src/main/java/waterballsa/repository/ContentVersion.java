@@ -0,0 +1,13 @@
+package waterballsa.repository;
+
+/**
+ * Version of a piece of content, derived from its rows: the number of live rows and the latest
+ * {@code updated_at} among them. Any insert, update or delete changes at least one of the two.
+ */
+public interface ContentVersion {
+
+  Long getRowCount();
+
+  /** Latest updated_at of the rows, in microseconds since the epoch. */
+  Long getLastModifiedMicros();
+}
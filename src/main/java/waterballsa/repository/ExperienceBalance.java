@@ -0,0 +1,14 @@
+package waterballsa.repository;
+
+/** Row returned by {@link UserRepository#findExperienceBalanceById}. */
+public interface ExperienceBalance {
+
+  /** Experience points already aggregated into the users row. */
+  Integer getExperiencePoints();
+
+  /** Level stored in the users row, matching {@link #getExperiencePoints()}. */
+  Integer getLevel();
+
+  /** Sum of the user's experience events not yet aggregated. */
+  Integer getPendingPoints();
+}
@@ -0,0 +1,53 @@
+package waterballsa.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import waterballsa.entity.ExperienceEvent;
+
+@Repository
+public interface ExperienceEventRepository extends JpaRepository<ExperienceEvent, Long> {
+
+  /**
+   * Try to take a transaction-scoped advisory lock, so only one instance aggregates at a time.
+   *
+   * @param key Lock key
+   * @return true if the lock was taken; it is released when the transaction ends
+   */
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryAdvisoryXactLock(@Param("key") long key);
+
+  /**
+   * Fold a batch of pending events into {@code users.experience_points} in one statement: mark the
+   * events as aggregated, add their points per user and recompute each user's level. Must run in a
+   * transaction.
+   *
+   * @param batchSize Maximum number of events to fold
+   * @param levelThresholds Sorted experience thresholds of level 2 and up
+   * @param now Timestamp for aggregated_at
+   * @return number of events folded
+   */
+  @Query(
+      value =
+          "WITH batch AS ("
+              + "  UPDATE experience_events SET aggregated_at = :now "
+              + "  WHERE id IN (SELECT id FROM experience_events WHERE aggregated_at IS NULL "
+              + "               ORDER BY user_id, id LIMIT :batchSize) "
+              + "  RETURNING user_id, points), "
+              + "totals AS ("
+              + "  SELECT user_id, CAST(SUM(points) AS INTEGER) AS points, COUNT(*) AS events "
+              + "  FROM batch GROUP BY user_id), "
+              + "updated AS ("
+              + "  UPDATE users u SET experience_points = u.experience_points + t.points, "
+              + "  level = 1 + width_bucket(u.experience_points + t.points, "
+              + "  CAST(:thresholds AS INTEGER[])) "
+              + "  FROM totals t WHERE u.id = t.user_id RETURNING u.id) "
+              + "SELECT CAST(COALESCE(SUM(events), 0) AS INTEGER) FROM totals",
+      nativeQuery = true)
+  int aggregatePendingBatch(
+      @Param("batchSize") int batchSize,
+      @Param("thresholds") Integer[] levelThresholds,
+      @Param("now") LocalDateTime now);
+}
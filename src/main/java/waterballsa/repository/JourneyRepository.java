@@ -1,5 +1,6 @@
 package waterballsa.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -34,4 +35,15 @@ public interface JourneyRepository extends JpaRepository<Journey, Long> {
    */
   @Query("SELECT j FROM Journey j WHERE j.deletedAt IS NULL ORDER BY j.createdAt ASC")
   List<Journey> findAllNotDeleted();
+
+  /**
+   * Find the titles of the given journeys that are not soft-deleted, in one query.
+   *
+   * @param ids Journey IDs
+   * @return List of journey IDs with their titles; missing or deleted journeys are left out
+   */
+  @Query(
+      "SELECT j.id AS id, j.title AS title FROM Journey j "
+          + "WHERE j.id IN :ids AND j.deletedAt IS NULL")
+  List<JourneyTitleRow> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,9 @@
+package waterballsa.repository;
+
+/** Row returned by {@link JourneyRepository#findTitlesByIdIn}. */
+public interface JourneyTitleRow {
+
+  Long getId();
+
+  String getTitle();
+}
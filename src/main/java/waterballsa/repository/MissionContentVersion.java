@@ -0,0 +1,12 @@
+package waterballsa.repository;
+
+/**
+ * {@link ContentVersion} of a mission detail together with the scalars needed to run access
+ * validation without loading the mission entity.
+ */
+public interface MissionContentVersion extends ContentVersion {
+
+  Long getJourneyId();
+
+  String getAccessLevel();
+}
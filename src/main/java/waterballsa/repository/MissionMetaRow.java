@@ -0,0 +1,20 @@
+package waterballsa.repository;
+
+/** Row returned by {@link MissionRepository#findAllMeta()}. */
+public interface MissionMetaRow {
+
+  Long getId();
+
+  /** Mission type name. */
+  String getType();
+
+  /** Mission access level name. */
+  String getAccessLevel();
+
+  Long getJourneyId();
+
+  Long getChapterId();
+
+  /** Duration of the mission's first resource (by content order) that has one, or null. */
+  Integer getVideoDurationSeconds();
+}
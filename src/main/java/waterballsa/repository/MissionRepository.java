@@ -1,5 +1,7 @@
 package waterballsa.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -29,4 +31,96 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
   Optional<Mission> findByIdWithDetails(@Param("id") Long id);
 
   Optional<Mission> findByIdAndDeletedAtIsNull(Long id);
+
+  /**
+   * Find the metadata of every live mission (mission, chapter and journey not deleted), with the
+   * duration of its first resource that has one.
+   *
+   * @return List of MissionMetaRow
+   */
+  @Query(
+      value =
+          "SELECT m.id AS \"id\", "
+              + "CAST(m.type AS VARCHAR) AS \"type\", "
+              + "CAST(m.access_level AS VARCHAR) AS \"accessLevel\", "
+              + "c.journey_id AS \"journeyId\", "
+              + "m.chapter_id AS \"chapterId\", "
+              + "(SELECT r.duration_seconds FROM mission_resources r "
+              + " WHERE r.mission_id = m.id AND r.deleted_at IS NULL "
+              + " AND r.duration_seconds IS NOT NULL "
+              + " ORDER BY r.content_order LIMIT 1) AS \"videoDurationSeconds\" "
+              + "FROM missions m "
+              + "JOIN chapters c ON c.id = m.chapter_id "
+              + "JOIN journeys j ON j.id = c.journey_id "
+              + "WHERE m.deleted_at IS NULL AND c.deleted_at IS NULL AND j.deleted_at IS NULL",
+      nativeQuery = true)
+  List<MissionMetaRow> findAllMeta();
+
+  /**
+   * Find the metadata of the given live missions (mission, chapter and journey not deleted), with
+   * the duration of their first resource that has one.
+   *
+   * @param ids Mission IDs
+   * @return List of MissionMetaRow, without the missions that do not exist or are deleted
+   */
+  @Query(
+      value =
+          "SELECT m.id AS \"id\", "
+              + "CAST(m.type AS VARCHAR) AS \"type\", "
+              + "CAST(m.access_level AS VARCHAR) AS \"accessLevel\", "
+              + "c.journey_id AS \"journeyId\", "
+              + "m.chapter_id AS \"chapterId\", "
+              + "(SELECT r.duration_seconds FROM mission_resources r "
+              + " WHERE r.mission_id = m.id AND r.deleted_at IS NULL "
+              + " AND r.duration_seconds IS NOT NULL "
+              + " ORDER BY r.content_order LIMIT 1) AS \"videoDurationSeconds\" "
+              + "FROM missions m "
+              + "JOIN chapters c ON c.id = m.chapter_id "
+              + "JOIN journeys j ON j.id = c.journey_id "
+              + "WHERE m.id IN (:ids) "
+              + "AND m.deleted_at IS NULL AND c.deleted_at IS NULL AND j.deleted_at IS NULL",
+      nativeQuery = true)
+  List<MissionMetaRow> findMetaByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Find all non-deleted missions of the given chapters ordered by their order index.
+   *
+   * @param chapterIds Chapter IDs
+   * @return List of missions
+   */
+  @Query(
+      "SELECT m FROM Mission m "
+          + "WHERE m.chapter.id IN :chapterIds AND m.deletedAt IS NULL "
+          + "ORDER BY m.orderIndex")
+  List<Mission> findByChapterIdsNotDeleted(@Param("chapterIds") Collection<Long> chapterIds);
+
+  /**
+   * Find the content version of a mission detail (mission, its resources and its rewards) along
+   * with its journey ID and access level.
+   *
+   * @param id Mission ID
+   * @return Optional of MissionContentVersion, empty if the mission, its chapter or its journey
+   *     does not exist or is deleted
+   */
+  @Query(
+      value =
+          "SELECT c.journey_id AS \"journeyId\", "
+              + "CAST(m.access_level AS VARCHAR) AS \"accessLevel\", "
+              + "1 + (SELECT COUNT(*) FROM mission_resources r "
+              + "     WHERE r.mission_id = m.id AND r.deleted_at IS NULL) "
+              + "  + (SELECT COUNT(*) FROM rewards w "
+              + "     WHERE w.mission_id = m.id AND w.deleted_at IS NULL) AS \"rowCount\", "
+              + "CAST(FLOOR(EXTRACT(EPOCH FROM GREATEST(m.updated_at, "
+              + "  (SELECT MAX(r.updated_at) FROM mission_resources r "
+              + "   WHERE r.mission_id = m.id AND r.deleted_at IS NULL), "
+              + "  (SELECT MAX(w.updated_at) FROM rewards w "
+              + "   WHERE w.mission_id = m.id AND w.deleted_at IS NULL)"
+              + ")) * 1000000) AS BIGINT) AS \"lastModifiedMicros\" "
+              + "FROM missions m "
+              + "JOIN chapters c ON c.id = m.chapter_id "
+              + "JOIN journeys j ON j.id = c.journey_id "
+              + "WHERE m.id = :id AND m.deleted_at IS NULL "
+              + "AND c.deleted_at IS NULL AND j.deleted_at IS NULL",
+      nativeQuery = true)
+  Optional<MissionContentVersion> findContentVersionById(@Param("id") Long id);
 }
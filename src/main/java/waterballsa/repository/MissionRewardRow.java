@@ -0,0 +1,9 @@
+package waterballsa.repository;
+
+/** Row returned by {@link RewardRepository#findActiveByRewardType}. */
+public interface MissionRewardRow {
+
+  Long getMissionId();
+
+  Integer getRewardValue();
+}
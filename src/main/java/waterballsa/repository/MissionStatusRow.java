@@ -0,0 +1,13 @@
+package waterballsa.repository;
+
+import waterballsa.entity.ProgressStatus;
+
+/**
+ * Row returned by {@link UserMissionProgressRepository#findMissionStatusesByUserIdAndJourneyId}.
+ */
+public interface MissionStatusRow {
+
+  Long getMissionId();
+
+  ProgressStatus getStatus();
+}
@@ -8,11 +8,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import waterballsa.entity.Order;
-import waterballsa.entity.OrderStatus;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -35,29 +35,32 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
   Optional<Order> findByIdAndUserId(Long id, Long userId);
 
   /**
-   * Find unpaid order by user ID and journey ID. Used to check if user already has an unpaid order
-   * for the same journey. Returns the most recent order if multiple exist.
+   * Find unpaid order by user ID and journey ID whose payment deadline has not passed. Used to
+   * check if user already has a payable order for the same journey. Returns the most recent order
+   * if multiple exist.
    *
    * @param userId User ID
-   * @param status Order status
    * @param journeyId Journey ID
+   * @param now Current time; orders whose deadline is not after it count as expired
    * @return Optional of Order
    */
   @Query(
       "SELECT o FROM Order o "
           + "JOIN o.items oi "
           + "WHERE o.userId = :userId "
-          + "AND o.status = :status "
+          + "AND o.status = 'UNPAID' "
+          + "AND (o.expiredAt IS NULL OR o.expiredAt > :now) "
           + "AND oi.journeyId = :journeyId "
           + "AND o.deletedAt IS NULL "
           + "ORDER BY o.createdAt DESC LIMIT 1")
-  Optional<Order> findByUserIdAndStatusAndJourneyId(
+  Optional<Order> findPayableByUserIdAndJourneyId(
       @Param("userId") Long userId,
-      @Param("status") OrderStatus status,
-      @Param("journeyId") Long journeyId);
+      @Param("journeyId") Long journeyId,
+      @Param("now") LocalDateTime now);
 
   /**
-   * Find all orders by user ID with pagination, ordered by creation time descending (newest first).
+   * Find all orders by user ID with pagination, ordered by creation time descending (newest first),
+   * then ID descending.
    *
    * @param userId User ID
    * @param pageable Pagination parameters
@@ -67,18 +70,53 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
       "SELECT o FROM Order o "
           + "WHERE o.userId = :userId "
           + "AND o.deletedAt IS NULL "
-          + "ORDER BY o.createdAt DESC")
+          + "ORDER BY o.createdAt DESC, o.id DESC")
   Page<Order> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
   /**
-   * Find orders by status where expiration time has passed. Used by scheduled task to expire unpaid
-   * orders after 3 days.
+   * Find the user's orders that come after the given position, in the same order as {@link
+   * #findByUserIdOrderByCreatedAtDesc}. The row comparison seeks directly into the {@code (user_id,
+   * created_at DESC, id DESC)} index, so a deep page costs the same as the first one, and no count
+   * query is run.
    *
-   * @param status Order status (typically UNPAID)
-   * @param now Current time
-   * @return List of orders that should be expired
+   * @param userId User ID
+   * @param createdAt Creation time of the last order already returned
+   * @param id ID of the last order already returned
+   * @param limit Maximum number of orders
+   * @return List of orders
+   */
+  @Query(
+      value =
+          "SELECT * FROM orders "
+              + "WHERE user_id = :userId "
+              + "AND deleted_at IS NULL "
+              + "AND (created_at, id) < (:createdAt, :id) "
+              + "ORDER BY created_at DESC, id DESC "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<Order> findByUserIdAfter(
+      @Param("userId") Long userId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      @Param("limit") int limit);
+
+  /**
+   * Expire one chunk of overdue unpaid orders in a single statement, oldest deadline first. Orders
+   * locked by a concurrent payment or by another instance are skipped instead of waited for; they
+   * are picked up by a later chunk or run.
+   *
+   * @param now current time
+   * @param batchSize maximum number of orders to expire
+   * @return number of expired orders
    */
-  List<Order> findByStatusAndExpiredAtBefore(OrderStatus status, LocalDateTime now);
+  @Modifying
+  @Query(
+      value =
+          "UPDATE orders SET status = 'EXPIRED', updated_at = :now WHERE id IN ("
+              + "SELECT id FROM orders WHERE status = 'UNPAID' AND expired_at < :now "
+              + "ORDER BY expired_at LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+      nativeQuery = true)
+  int expireOverdueBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 
   /**
    * Find order by ID and user ID with pessimistic write lock for payment processing.
@@ -0,0 +1,10 @@
+package waterballsa.repository;
+
+/** Row returned by {@link UserMissionProgressRepository#upsertWatchPosition}. */
+public interface ProgressUpsertResult {
+
+  /** Progress status name after the upsert. */
+  String getStatus();
+
+  Integer getWatchPositionSeconds();
+}
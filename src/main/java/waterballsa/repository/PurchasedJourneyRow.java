@@ -0,0 +1,21 @@
+package waterballsa.repository;
+
+import java.time.LocalDateTime;
+
+/** Row returned by {@link UserJourneyRepository#findPurchasedJourneysByUserId}. */
+public interface PurchasedJourneyRow {
+
+  Long getJourneyId();
+
+  String getJourneyTitle();
+
+  String getJourneySlug();
+
+  String getCoverImageUrl();
+
+  String getTeacherName();
+
+  LocalDateTime getPurchasedAt();
+
+  String getOrderNumber();
+}
@@ -0,0 +1,25 @@
+package waterballsa.repository;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import waterballsa.entity.Reward;
+import waterballsa.entity.RewardType;
+
+@Repository
+public interface RewardRepository extends JpaRepository<Reward, Long> {
+
+  /**
+   * Find the value of every non-deleted reward of a type, keyed by mission. There is at most one
+   * reward of each type per mission (unique index on mission_id, reward_type).
+   *
+   * @param rewardType Reward type
+   * @return List of mission IDs with their reward value
+   */
+  @Query(
+      "SELECT r.mission.id AS missionId, r.rewardValue AS rewardValue FROM Reward r "
+          + "WHERE r.rewardType = :rewardType AND r.deletedAt IS NULL")
+  List<MissionRewardRow> findActiveByRewardType(@Param("rewardType") RewardType rewardType);
+}
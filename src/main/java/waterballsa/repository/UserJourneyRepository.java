@@ -20,18 +20,24 @@ public interface UserJourneyRepository extends JpaRepository<UserJourney, Long>
   boolean existsByUserIdAndJourneyId(Long userId, Long journeyId);
 
   /**
-   * Find all purchased journeys for a user (only from PAID orders). Results are ordered by purchase
-   * time descending (most recent first).
+   * Find all purchased journeys for a user (only from PAID orders) together with the journey and
+   * order fields shown in the purchase list, in one statement. Journeys that were deleted after the
+   * purchase are left out. Results are ordered by purchase time descending (most recent first).
    *
    * @param userId User ID
-   * @return List of UserJourney
+   * @return List of purchased journey rows
    */
   @Query(
-      "SELECT uj FROM UserJourney uj, Order o "
+      "SELECT j.id AS journeyId, j.title AS journeyTitle, j.slug AS journeySlug, "
+          + "j.coverImageUrl AS coverImageUrl, j.teacherName AS teacherName, "
+          + "uj.purchasedAt AS purchasedAt, o.orderNumber AS orderNumber "
+          + "FROM UserJourney uj, Journey j, Order o "
           + "WHERE uj.userId = :userId "
+          + "AND uj.journeyId = j.id "
           + "AND uj.orderId = o.id "
           + "AND uj.deletedAt IS NULL "
+          + "AND j.deletedAt IS NULL "
           + "AND o.status = 'PAID' "
           + "ORDER BY uj.purchasedAt DESC")
-  List<UserJourney> findPurchasedJourneysByUserId(@Param("userId") Long userId);
+  List<PurchasedJourneyRow> findPurchasedJourneysByUserId(@Param("userId") Long userId);
 }
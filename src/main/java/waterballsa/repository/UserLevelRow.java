@@ -0,0 +1,11 @@
+package waterballsa.repository;
+
+/** Row returned by {@link UserRepository#findLevelsAfter}. */
+public interface UserLevelRow {
+
+  Long getId();
+
+  Integer getExperiencePoints();
+
+  Integer getLevel();
+}
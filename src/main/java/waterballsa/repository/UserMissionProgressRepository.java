@@ -1,8 +1,14 @@
 package waterballsa.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import waterballsa.entity.ProgressStatus;
 import waterballsa.entity.UserMissionProgress;
 
 @Repository
@@ -10,4 +16,113 @@ public interface UserMissionProgressRepository extends JpaRepository<UserMission
 
   Optional<UserMissionProgress> findByUserIdAndMissionIdAndDeletedAtIsNull(
       Long userId, Long missionId);
+
+  /**
+   * Find only the status of a user's progress on a mission, without loading the entity.
+   *
+   * @param userId User ID
+   * @param missionId Mission ID
+   * @return Optional of ProgressStatus, empty if there is no progress record
+   */
+  @Query(
+      "SELECT p.status FROM UserMissionProgress p "
+          + "WHERE p.user.id = :userId AND p.mission.id = :missionId AND p.deletedAt IS NULL")
+  Optional<ProgressStatus> findStatusByUserIdAndMissionId(
+      @Param("userId") Long userId, @Param("missionId") Long missionId);
+
+  /**
+   * Find the statuses of all of a user's progress records in a journey with a single query, driven
+   * by the user_id index. Missions without a record are not returned.
+   *
+   * @param userId User ID
+   * @param journeyId Journey ID
+   * @return List of mission IDs with their progress status
+   */
+  @Query(
+      "SELECT p.mission.id AS missionId, p.status AS status FROM UserMissionProgress p "
+          + "WHERE p.user.id = :userId AND p.mission.chapter.journey.id = :journeyId "
+          + "AND p.deletedAt IS NULL")
+  List<MissionStatusRow> findMissionStatusesByUserIdAndJourneyId(
+      @Param("userId") Long userId, @Param("journeyId") Long journeyId);
+
+  /**
+   * Insert or update a user's watch position in a single statement.
+   *
+   * <p>The position is capped to the video duration, and reaching the duration moves an UNCOMPLETED
+   * record to COMPLETED; COMPLETED and DELIVERED records keep their status. Concurrent calls for
+   * the same user and mission serialize on the row, so no update is lost. Soft-deleted records are
+   * not touched.
+   *
+   * @param userId User ID
+   * @param missionId Mission ID
+   * @param watchPositionSeconds Reported watch position in seconds
+   * @param durationSeconds Video duration in seconds, or null if unknown (no cap, no completion)
+   * @param now Timestamp for created_at and updated_at
+   * @return the record's status and position after the upsert, empty if it is soft-deleted
+   */
+  @Transactional
+  @Query(
+      value =
+          "INSERT INTO user_mission_progress "
+              + "(user_id, mission_id, status, watch_position_seconds, created_at, updated_at) "
+              + "SELECT :userId, :missionId, "
+              + "CAST(CASE WHEN v.pos >= v.dur THEN 'COMPLETED' ELSE 'UNCOMPLETED' END "
+              + "AS progress_status), "
+              + "LEAST(v.pos, v.dur), :now, :now "
+              + "FROM (SELECT CAST(:position AS INTEGER) AS pos, "
+              + "CAST(:duration AS INTEGER) AS dur) v "
+              + "ON CONFLICT (user_id, mission_id) DO UPDATE "
+              + "SET watch_position_seconds = EXCLUDED.watch_position_seconds, "
+              + "status = CASE WHEN user_mission_progress.status = 'UNCOMPLETED' "
+              + "THEN EXCLUDED.status ELSE user_mission_progress.status END, "
+              + "updated_at = EXCLUDED.updated_at "
+              + "WHERE user_mission_progress.deleted_at IS NULL "
+              + "RETURNING CAST(status AS TEXT) AS \"status\", "
+              + "watch_position_seconds AS \"watchPositionSeconds\"",
+      nativeQuery = true)
+  Optional<ProgressUpsertResult> upsertWatchPosition(
+      @Param("userId") Long userId,
+      @Param("missionId") Long missionId,
+      @Param("position") int watchPositionSeconds,
+      @Param("duration") Integer durationSeconds,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * Insert or update many of a user's watch positions in a single statement, with the same rules as
+   * {@link #upsertWatchPosition}. The arrays are parallel and must not contain a mission twice.
+   *
+   * @param userId User ID
+   * @param missionIds Mission IDs
+   * @param watchPositionSeconds Reported watch positions in seconds
+   * @param durationSeconds Video durations in seconds, null elements where unknown
+   * @param now Timestamp for created_at and updated_at
+   * @return status and position of every record written; soft-deleted records are left out
+   */
+  @Transactional
+  @Query(
+      value =
+          "INSERT INTO user_mission_progress "
+              + "(user_id, mission_id, status, watch_position_seconds, created_at, updated_at) "
+              + "SELECT :userId, v.mission_id, "
+              + "CAST(CASE WHEN v.pos >= v.dur THEN 'COMPLETED' ELSE 'UNCOMPLETED' END "
+              + "AS progress_status), "
+              + "LEAST(v.pos, v.dur), :now, :now "
+              + "FROM unnest(CAST(:missionIds AS BIGINT[]), CAST(:positions AS INTEGER[]), "
+              + "CAST(:durations AS INTEGER[])) AS v(mission_id, pos, dur) "
+              + "ORDER BY v.mission_id "
+              + "ON CONFLICT (user_id, mission_id) DO UPDATE "
+              + "SET watch_position_seconds = EXCLUDED.watch_position_seconds, "
+              + "status = CASE WHEN user_mission_progress.status = 'UNCOMPLETED' "
+              + "THEN EXCLUDED.status ELSE user_mission_progress.status END, "
+              + "updated_at = EXCLUDED.updated_at "
+              + "WHERE user_mission_progress.deleted_at IS NULL "
+              + "RETURNING mission_id AS \"missionId\", CAST(status AS TEXT) AS \"status\", "
+              + "watch_position_seconds AS \"watchPositionSeconds\"",
+      nativeQuery = true)
+  List<BatchProgressUpsertResult> upsertWatchPositions(
+      @Param("userId") Long userId,
+      @Param("missionIds") Long[] missionIds,
+      @Param("positions") Integer[] watchPositionSeconds,
+      @Param("durations") Integer[] durationSeconds,
+      @Param("now") LocalDateTime now);
 }
@@ -1,6 +1,8 @@
 package waterballsa.repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -18,6 +20,56 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   boolean existsByUsernameAndDeletedAtIsNull(String username);
 
+  boolean existsByIdAndDeletedAtIsNull(Long id);
+
+  /**
+   * Find the token state of users whose tokens are (partly) invalidated: a bumped token epoch, or
+   * soft-deleted after the given time. Served by the partial index idx_users_token_state.
+   *
+   * @param deletedAfter users deleted before this time are left out (their tokens have expired)
+   * @return List of user IDs with their token epoch and whether they are deleted
+   */
+  @Query(
+      value =
+          "SELECT id AS \"id\", token_epoch AS \"tokenEpoch\", "
+              + "deleted_at IS NOT NULL AS \"deleted\" "
+              + "FROM users WHERE token_epoch > 0 OR deleted_at > :deletedAfter",
+      nativeQuery = true)
+  List<UserTokenEpochRow> findTokenEpochs(@Param("deletedAfter") LocalDateTime deletedAfter);
+
+  /**
+   * Find the experience points of every user that is not deleted, including ledger events not yet
+   * aggregated, in no particular order. Used to seed the in-memory leaderboard.
+   *
+   * @return List of user IDs with their experience points
+   */
+  @Query(
+      value =
+          "SELECT u.id AS \"id\", "
+              + "u.experience_points + COALESCE(p.points, 0) AS \"experiencePoints\" "
+              + "FROM users u LEFT JOIN ("
+              + "  SELECT user_id, CAST(SUM(points) AS INTEGER) AS points FROM experience_events "
+              + "  WHERE aggregated_at IS NULL GROUP BY user_id"
+              + ") p ON p.user_id = u.id "
+              + "WHERE u.deleted_at IS NULL",
+      nativeQuery = true)
+  List<UserScoreRow> findAllScores();
+
+  /**
+   * Find the next chunk of users after the given ID, in ID order (keyset pagination over the
+   * primary key). A plain read: no rows are locked.
+   *
+   * @param afterId Last user ID of the previous chunk, 0 for the first chunk
+   * @param limit Maximum number of users
+   * @return List of user IDs with their experience points and level
+   */
+  @Query(
+      value =
+          "SELECT id AS \"id\", experience_points AS \"experiencePoints\", level AS \"level\" "
+              + "FROM users WHERE id > :afterId ORDER BY id LIMIT :limit",
+      nativeQuery = true)
+  List<UserLevelRow> findLevelsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
   /**
    * Find user by ID with pessimistic write lock for preventing concurrent order creation.
    *
@@ -27,4 +79,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("SELECT u FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
   Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+  /**
+   * Find the user's experience points together with the points of experience events not yet
+   * aggregated into them. A plain read: the users row is not locked.
+   *
+   * @param id User ID
+   * @return the experience balance, empty if the user does not exist or is deleted
+   */
+  @Query(
+      value =
+          "SELECT u.experience_points AS \"experiencePoints\", u.level AS \"level\", "
+              + "CAST(COALESCE((SELECT SUM(e.points) FROM experience_events e "
+              + "  WHERE e.user_id = u.id AND e.aggregated_at IS NULL), 0) AS INTEGER) "
+              + "AS \"pendingPoints\" "
+              + "FROM users u WHERE u.id = :id AND u.deleted_at IS NULL",
+      nativeQuery = true)
+  Optional<ExperienceBalance> findExperienceBalanceById(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package waterballsa.repository;
+
+/** Row returned by {@link UserRepository#findAllScores}. */
+public interface UserScoreRow {
+
+  Long getId();
+
+  Integer getExperiencePoints();
+}
@@ -0,0 +1,12 @@
+package waterballsa.repository;
+
+/** Row returned by {@link UserRepository#findTokenEpochs}. */
+public interface UserTokenEpochRow {
+
+  Long getId();
+
+  Integer getTokenEpoch();
+
+  /** Whether the user is soft-deleted. */
+  Boolean getDeleted();
+}
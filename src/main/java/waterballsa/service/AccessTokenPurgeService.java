@@ -0,0 +1,98 @@
+package waterballsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import waterballsa.repository.AccessTokenRepository;
+
+/**
+ * Removes blacklisted tokens from {@code access_tokens} once they have expired.
+ *
+ * <p>Expired rows can never authenticate again, so keeping them only bloats the table and its
+ * unique JTI index. Rows are deleted in chunks, each in its own short transaction with a lock
+ * timeout, so the purge never holds long locks or blocks logouts.
+ */
+@Service
+public class AccessTokenPurgeService {
+
+  private static final Logger logger = LoggerFactory.getLogger(AccessTokenPurgeService.class);
+
+  private final AccessTokenRepository accessTokenRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxBatches;
+  private final int lockTimeoutMs;
+  private final Counter purgedCounter;
+  private final Timer purgeTimer;
+
+  public AccessTokenPurgeService(
+      AccessTokenRepository accessTokenRepository,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.purge.batch-size}") int batchSize,
+      @Value("${jwt.purge.max-batches}") int maxBatches,
+      @Value("${jwt.purge.lock-timeout-ms}") int lockTimeoutMs) {
+    this.accessTokenRepository = accessTokenRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.lockTimeoutMs = lockTimeoutMs;
+    this.purgedCounter =
+        Counter.builder("access_tokens.purged")
+            .description("Expired access_tokens rows deleted by the purge job")
+            .register(meterRegistry);
+    this.purgeTimer =
+        Timer.builder("access_tokens.purge")
+            .description("Time spent per access_tokens purge run")
+            .register(meterRegistry);
+  }
+
+  /** Scheduled task to delete expired blacklisted tokens in chunks. */
+  @Scheduled(cron = "${jwt.purge.cron}")
+  public void purgeExpiredTokens() {
+    purgeTimer.record(this::purge);
+  }
+
+  // ==================== Helper Methods ====================
+
+  private void purge() {
+    LocalDateTime now = LocalDateTime.now();
+    int totalDeleted = 0;
+
+    try {
+      for (int batch = 0; batch < maxBatches; batch++) {
+        int deleted = transactionTemplate.execute(status -> deleteBatch(now));
+        totalDeleted += deleted;
+        purgedCounter.increment(deleted);
+        if (deleted < batchSize) {
+          break;
+        }
+      }
+    } catch (DataAccessException e) {
+      // Typically a lock timeout; remaining rows are picked up by the next run
+      logger.warn("Access token purge stopped early: {}", e.getMessage());
+    }
+
+    if (totalDeleted > 0) {
+      logger.info("Purged {} expired access tokens", totalDeleted);
+    }
+  }
+
+  private int deleteBatch(LocalDateTime now) {
+    // SET LOCAL only lasts until the end of the current chunk's transaction
+    jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+    return accessTokenRepository.deleteExpiredBatch(now, batchSize);
+  }
+}
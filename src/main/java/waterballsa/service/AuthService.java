@@ -6,6 +6,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.RevokedTokenIndex;
+import waterballsa.cache.VerifiedTokenCache;
 import waterballsa.dto.LoginRequest;
 import waterballsa.dto.LoginResponse;
 import waterballsa.dto.LogoutResponse;
@@ -20,6 +22,7 @@ import waterballsa.exception.UnauthorizedException;
 import waterballsa.repository.AccessTokenRepository;
 import waterballsa.repository.UserRepository;
 import waterballsa.util.JwtUtil;
+import waterballsa.util.VerifiedToken;
 
 @Service
 public class AuthService {
@@ -30,16 +33,22 @@ public class AuthService {
   private final AccessTokenRepository accessTokenRepository;
   private final PasswordEncoder passwordEncoder;
   private final JwtUtil jwtUtil;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final RevokedTokenIndex revokedTokenIndex;
 
   public AuthService(
       UserRepository userRepository,
       AccessTokenRepository accessTokenRepository,
       PasswordEncoder passwordEncoder,
-      JwtUtil jwtUtil) {
+      JwtUtil jwtUtil,
+      VerifiedTokenCache verifiedTokenCache,
+      RevokedTokenIndex revokedTokenIndex) {
     this.userRepository = userRepository;
     this.accessTokenRepository = accessTokenRepository;
     this.passwordEncoder = passwordEncoder;
     this.jwtUtil = jwtUtil;
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.revokedTokenIndex = revokedTokenIndex;
   }
 
   @Transactional
@@ -95,20 +104,22 @@ public class AuthService {
     return new LoginResponse(accessToken, userInfo);
   }
 
+  /**
+   * Logout the given token by adding it to the blacklist. The user's other sessions stay valid.
+   *
+   * @param token JWT token to logout
+   * @return logout response
+   */
   @Transactional
   public LogoutResponse logout(String token) {
     logger.debug("Attempting to logout user with token");
 
-    // Validate token
-    if (!jwtUtil.validateToken(token)) {
-      logger.warn("Logout failed: invalid token");
-      throw new UnauthorizedException();
-    }
+    // Verify token once and extract JTI, expiration and user ID from the result
+    VerifiedToken verifiedToken = verifyForLogout(token);
 
-    // Extract JTI and expiration from token
-    String jti = jwtUtil.getJtiFromToken(token);
-    LocalDateTime expiresAt = jwtUtil.getExpirationFromToken(token);
-    Long userId = jwtUtil.getUserIdFromToken(token);
+    String jti = verifiedToken.jti();
+    LocalDateTime expiresAt = verifiedToken.expiresAt();
+    Long userId = verifiedToken.userId();
 
     // Check if token is already invalidated
     if (accessTokenRepository.existsByTokenJti(jti)) {
@@ -119,9 +130,58 @@ public class AuthService {
     // Add token to blacklist
     AccessToken accessToken = new AccessToken(jti, userId, expiresAt);
     accessTokenRepository.save(accessToken);
+    verifiedTokenCache.evict(token);
+    // Broadcast to all instances; the notification is delivered when this transaction commits
+    revokedTokenIndex.revoke(jti, expiresAt);
 
     logger.info("User logout successful: userId={}", userId);
 
     return new LogoutResponse("Logout successful");
   }
+
+  /**
+   * Logout all sessions of the token's user by bumping the user's token epoch, which invalidates
+   * every token issued so far on all instances.
+   *
+   * @param token JWT token of the current session
+   * @return logout response
+   */
+  @Transactional
+  public LogoutResponse logoutAll(String token) {
+    logger.debug("Attempting to logout all sessions with token");
+
+    VerifiedToken verifiedToken = verifyForLogout(token);
+    bumpTokenEpoch(verifiedToken.userId());
+    verifiedTokenCache.evict(token);
+
+    logger.info("User logout from all sessions successful: userId={}", verifiedToken.userId());
+
+    return new LogoutResponse("Logout from all sessions successful");
+  }
+
+  // ==================== Helper Methods ====================
+
+  private VerifiedToken verifyForLogout(String token) {
+    return verifiedTokenCache
+        .verify(token)
+        .orElseThrow(
+            () -> {
+              logger.warn("Logout failed: invalid token");
+              return new UnauthorizedException();
+            });
+  }
+
+  private void bumpTokenEpoch(Long userId) {
+    User user =
+        userRepository
+            .findByIdAndDeletedAtIsNull(userId)
+            .orElseThrow(
+                () -> {
+                  logger.warn("Logout failed: user not found: {}", userId);
+                  return new UnauthorizedException();
+                });
+    user.bumpTokenEpoch();
+    // Flush now so the epoch change is broadcast (via UserCacheListener) within this transaction
+    userRepository.saveAndFlush(user);
+  }
 }
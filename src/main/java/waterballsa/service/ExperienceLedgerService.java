@@ -0,0 +1,150 @@
+package waterballsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import waterballsa.entity.ExperienceEvent;
+import waterballsa.entity.ExperienceEventType;
+import waterballsa.exception.MissionAlreadyDeliveredException;
+import waterballsa.repository.ExperienceBalance;
+import waterballsa.repository.ExperienceEventRepository;
+import waterballsa.repository.UserRepository;
+import waterballsa.util.LevelTable;
+
+/**
+ * Append-only ledger of experience points ({@code experience_events}).
+ *
+ * <p>Granting experience only inserts an event, so concurrent grants to the same user never wait on
+ * the user's row. A background aggregator folds pending events into {@code users.experience_points}
+ * (and the level) in batches. Reads that must see a user's own grants add the user's pending events
+ * to the aggregated total, see {@link #getExperience(Long)}.
+ */
+@Service
+public class ExperienceLedgerService {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExperienceLedgerService.class);
+
+  // Advisory lock key ("xpledger" in ASCII) held by the instance that is aggregating
+  private static final long AGGREGATION_LOCK_KEY = 0x78706c6564676572L;
+
+  private final ExperienceEventRepository experienceEventRepository;
+  private final UserRepository userRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final LevelTable levelTable;
+  private final int batchSize;
+  private final int maxBatches;
+  private final Counter aggregatedCounter;
+
+  public ExperienceLedgerService(
+      ExperienceEventRepository experienceEventRepository,
+      UserRepository userRepository,
+      TransactionTemplate transactionTemplate,
+      LevelTable levelTable,
+      MeterRegistry meterRegistry,
+      @Value("${experience.aggregator.batch-size}") int batchSize,
+      @Value("${experience.aggregator.max-batches}") int maxBatches) {
+    this.experienceEventRepository = experienceEventRepository;
+    this.userRepository = userRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.levelTable = levelTable;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.aggregatedCounter =
+        Counter.builder("experience.events.aggregated")
+            .description("Experience events folded into users.experience_points")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Record the experience reward of a delivered mission. Must be called inside the delivery's
+   * transaction.
+   *
+   * @param userId User ID
+   * @param missionId Mission ID
+   * @param points Experience points granted
+   * @throws MissionAlreadyDeliveredException if the mission's reward was already granted
+   */
+  public void grantMissionReward(Long userId, Long missionId, int points) {
+    try {
+      experienceEventRepository.save(
+          new ExperienceEvent(userId, missionId, ExperienceEventType.MISSION_DELIVERED, points));
+    } catch (DataIntegrityViolationException e) {
+      // Unique per user and mission: a concurrent delivery of the same mission won the race
+      logger.warn("Mission reward already granted for user: {}, mission: {}", userId, missionId);
+      throw new MissionAlreadyDeliveredException("Mission has already been delivered");
+    }
+  }
+
+  /**
+   * Get the user's experience points and level including grants not yet aggregated, so a user
+   * always sees their own grants.
+   *
+   * @param userId User ID
+   * @return the experience total, empty if the user does not exist or is deleted
+   */
+  public Optional<ExperienceTotal> getExperience(Long userId) {
+    return userRepository.findExperienceBalanceById(userId).map(this::toExperienceTotal);
+  }
+
+  /** Fold pending events into users in batches until none are left or the run limit is hit. */
+  @Scheduled(
+      fixedDelayString = "${experience.aggregator.interval-ms}",
+      initialDelayString = "${experience.aggregator.interval-ms}")
+  public void aggregate() {
+    int totalFolded = 0;
+
+    try {
+      for (int batch = 0; batch < maxBatches; batch++) {
+        int folded = transactionTemplate.execute(status -> aggregateBatch());
+        totalFolded += folded;
+        aggregatedCounter.increment(folded);
+        if (folded < batchSize) {
+          break;
+        }
+      }
+    } catch (DataAccessException e) {
+      // The failed batch was rolled back; its events are folded by the next run
+      logger.warn("Experience aggregation stopped early: {}", e.getMessage());
+    }
+
+    if (totalFolded > 0) {
+      logger.debug("Aggregated {} experience events", totalFolded);
+    }
+  }
+
+  // ==================== Helper Methods ====================
+
+  private int aggregateBatch() {
+    // Another instance is aggregating; two aggregators would lock the same users rows
+    if (!experienceEventRepository.tryAdvisoryXactLock(AGGREGATION_LOCK_KEY)) {
+      return 0;
+    }
+    return experienceEventRepository.aggregatePendingBatch(
+        batchSize, levelTable.sqlThresholds(), LocalDateTime.now());
+  }
+
+  private ExperienceTotal toExperienceTotal(ExperienceBalance balance) {
+    if (balance.getPendingPoints() == 0) {
+      return new ExperienceTotal(balance.getExperiencePoints(), balance.getLevel());
+    }
+    int experiencePoints = balance.getExperiencePoints() + balance.getPendingPoints();
+    return new ExperienceTotal(experiencePoints, levelTable.levelFor(experiencePoints));
+  }
+
+  /**
+   * Experience points of a user and the level they reach.
+   *
+   * @param experiencePoints experience points including pending grants
+   * @param level level for those experience points
+   */
+  public record ExperienceTotal(int experiencePoints, int level) {}
+}
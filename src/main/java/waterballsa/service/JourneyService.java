@@ -1,22 +1,26 @@
 package waterballsa.service;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.JourneyTree;
+import waterballsa.cache.JourneyTreeCache;
 import waterballsa.dto.ChapterDTO;
 import waterballsa.dto.JourneyDetailResponse;
 import waterballsa.dto.JourneyListItemDTO;
 import waterballsa.dto.JourneyListResponse;
 import waterballsa.dto.MissionSummaryDTO;
-import waterballsa.entity.Chapter;
 import waterballsa.entity.Journey;
-import waterballsa.entity.Mission;
+import waterballsa.entity.ProgressStatus;
 import waterballsa.exception.JourneyNotFoundException;
 import waterballsa.repository.JourneyRepository;
+import waterballsa.repository.MissionStatusRow;
+import waterballsa.repository.UserMissionProgressRepository;
 
 @Service
 public class JourneyService {
@@ -24,9 +28,16 @@ public class JourneyService {
   private static final Logger logger = LoggerFactory.getLogger(JourneyService.class);
 
   private final JourneyRepository journeyRepository;
+  private final JourneyTreeCache journeyTreeCache;
+  private final UserMissionProgressRepository progressRepository;
 
-  public JourneyService(JourneyRepository journeyRepository) {
+  public JourneyService(
+      JourneyRepository journeyRepository,
+      JourneyTreeCache journeyTreeCache,
+      UserMissionProgressRepository progressRepository) {
     this.journeyRepository = journeyRepository;
+    this.journeyTreeCache = journeyTreeCache;
+    this.progressRepository = progressRepository;
   }
 
   /**
@@ -49,67 +60,96 @@ public class JourneyService {
   }
 
   /**
-   * Get journey details with chapters and missions.
+   * Get journey details with chapters and missions, served from the journey tree cache.
+   *
+   * <p>For an authenticated user, the status of every mission and the number of completed missions
+   * per chapter are merged into the shared tree from a single query over the user's progress.
    *
    * @param journeyId Journey ID
+   * @param userId Current user ID, or null for anonymous requests (statuses are left null)
    * @return JourneyDetailResponse
    * @throws JourneyNotFoundException if journey not found or deleted
    */
-  @Transactional(readOnly = true)
-  public JourneyDetailResponse getJourneyDetail(Long journeyId) {
-    logger.debug("Fetching journey details for journeyId: {}", journeyId);
+  public JourneyDetailResponse getJourneyDetail(Long journeyId, Long userId) {
+    logger.debug("Fetching journey details for journeyId: {}, userId: {}", journeyId, userId);
 
-    Journey journey =
-        journeyRepository
-            .findByIdWithChapters(journeyId)
-            .orElseThrow(() -> new JourneyNotFoundException(journeyId));
+    JourneyTree tree =
+        journeyTreeCache.get(journeyId).orElseThrow(() -> new JourneyNotFoundException(journeyId));
 
     logger.info(
         "Successfully fetched journey: {} with {} chapters",
         journeyId,
-        journey.getChapters().size());
+        tree.detail().chapters().size());
 
-    return mapToJourneyDetailResponse(journey);
+    if (userId == null) {
+      return tree.detail();
+    }
+    return withUserProgress(tree.detail(), userId);
   }
 
-  private JourneyDetailResponse mapToJourneyDetailResponse(Journey journey) {
+  /**
+   * Get the ETag of a journey detail from the cached journey tree. It changes whenever the journey,
+   * one of its chapters or one of their missions is added, changed or removed.
+   *
+   * @param journeyId Journey ID
+   * @return the ETag, or empty if the journey does not exist
+   */
+  public Optional<String> getJourneyDetailETag(Long journeyId) {
+    return journeyTreeCache.get(journeyId).map(JourneyTree::etag);
+  }
+
+  private JourneyDetailResponse withUserProgress(JourneyDetailResponse detail, Long userId) {
+    Map<Long, ProgressStatus> statuses =
+        progressRepository.findMissionStatusesByUserIdAndJourneyId(userId, detail.id()).stream()
+            .collect(Collectors.toMap(MissionStatusRow::getMissionId, MissionStatusRow::getStatus));
+
     List<ChapterDTO> chapters =
-        journey.getChapters().stream()
-            .filter(chapter -> !chapter.isDeleted())
-            .sorted(Comparator.comparing(Chapter::getOrderIndex))
-            .map(this::mapToChapterDTO)
-            .collect(Collectors.toList());
+        detail.chapters().stream()
+            .map(
+                chapter -> {
+                  List<MissionSummaryDTO> missions =
+                      chapter.missions().stream()
+                          .map(
+                              mission ->
+                                  withStatus(
+                                      mission,
+                                      statuses.getOrDefault(
+                                          mission.id(), ProgressStatus.UNCOMPLETED)))
+                          .toList();
+                  int completedMissionCount =
+                      (int) missions.stream().filter(JourneyService::isCompleted).count();
+                  return new ChapterDTO(
+                      chapter.id(),
+                      chapter.title(),
+                      chapter.orderIndex(),
+                      missions,
+                      completedMissionCount);
+                })
+            .toList();
 
     return new JourneyDetailResponse(
-        journey.getId(),
-        journey.getSlug(),
-        journey.getTitle(),
-        journey.getDescription(),
-        journey.getCoverImageUrl(),
-        journey.getTeacherName(),
-        journey.getPrice(),
+        detail.id(),
+        detail.slug(),
+        detail.title(),
+        detail.description(),
+        detail.coverImageUrl(),
+        detail.teacherName(),
+        detail.price(),
         chapters);
   }
 
-  private ChapterDTO mapToChapterDTO(Chapter chapter) {
-    List<MissionSummaryDTO> missions =
-        chapter.getMissions().stream()
-            .filter(mission -> !mission.isDeleted())
-            .sorted(Comparator.comparing(Mission::getOrderIndex))
-            .map(this::mapToMissionSummaryDTO)
-            .collect(Collectors.toList());
-
-    return new ChapterDTO(chapter.getId(), chapter.getTitle(), chapter.getOrderIndex(), missions);
+  private static MissionSummaryDTO withStatus(MissionSummaryDTO mission, ProgressStatus status) {
+    return new MissionSummaryDTO(
+        mission.id(),
+        mission.type(),
+        mission.title(),
+        mission.accessLevel(),
+        mission.orderIndex(),
+        status.name());
   }
 
-  private MissionSummaryDTO mapToMissionSummaryDTO(Mission mission) {
-    return new MissionSummaryDTO(
-        mission.getId(),
-        mission.getType().name(),
-        mission.getTitle(),
-        mission.getAccessLevel().name(),
-        mission.getOrderIndex(),
-        null); // status will be null for now (not implemented yet)
+  private static boolean isCompleted(MissionSummaryDTO mission) {
+    return !ProgressStatus.UNCOMPLETED.name().equals(mission.status());
   }
 
   private JourneyListItemDTO mapToJourneyListItemDTO(Journey journey) {
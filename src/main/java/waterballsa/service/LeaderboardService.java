@@ -0,0 +1,98 @@
+package waterballsa.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.LeaderboardIndex;
+import waterballsa.cache.LeaderboardIndex.RankedUser;
+import waterballsa.dto.LeaderboardEntry;
+import waterballsa.dto.LeaderboardResponse;
+import waterballsa.entity.User;
+import waterballsa.exception.InvalidInputException;
+import waterballsa.exception.UserNotFoundException;
+import waterballsa.repository.UserRepository;
+import waterballsa.util.LevelTable;
+
+@Service
+public class LeaderboardService {
+
+  private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+  private final LeaderboardIndex leaderboardIndex;
+  private final UserRepository userRepository;
+  private final LevelTable levelTable;
+  private final int maxLimit;
+
+  public LeaderboardService(
+      LeaderboardIndex leaderboardIndex,
+      UserRepository userRepository,
+      LevelTable levelTable,
+      @Value("${leaderboard.max-limit}") int maxLimit) {
+    this.leaderboardIndex = leaderboardIndex;
+    this.userRepository = userRepository;
+    this.levelTable = levelTable;
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * Get a page of the XP leaderboard. Ranks come from the in-memory {@link LeaderboardIndex}; only
+   * the profiles of the returned users are read from the database, by primary key.
+   *
+   * @param limit Maximum number of entries
+   * @param aroundUserId User to center the page on, or null for the top of the leaderboard
+   * @return LeaderboardResponse with ranked entries, best first
+   */
+  @Transactional(readOnly = true)
+  public LeaderboardResponse getLeaderboard(int limit, Long aroundUserId) {
+    logger.debug("Fetching leaderboard (limit: {}, around: {})", limit, aroundUserId);
+
+    if (limit < 1 || limit > maxLimit) {
+      throw new InvalidInputException("Limit must be between 1 and " + maxLimit);
+    }
+
+    List<RankedUser> rankedUsers =
+        aroundUserId == null
+            ? leaderboardIndex.top(limit)
+            : leaderboardIndex
+                .around(aroundUserId, limit)
+                .orElseThrow(
+                    () -> {
+                      logger.warn("User not on leaderboard: {}", aroundUserId);
+                      return new UserNotFoundException("User not found");
+                    });
+
+    Map<Long, User> users =
+        userRepository.findAllById(rankedUsers.stream().map(RankedUser::userId).toList()).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+    // A user deleted after the ranking was read has no profile left to show
+    List<LeaderboardEntry> entries =
+        rankedUsers.stream()
+            .filter(rankedUser -> users.containsKey(rankedUser.userId()))
+            .map(rankedUser -> mapToLeaderboardEntry(rankedUser, users.get(rankedUser.userId())))
+            .toList();
+
+    logger.debug("Successfully fetched {} leaderboard entries", entries.size());
+
+    return new LeaderboardResponse(entries, leaderboardIndex.size());
+  }
+
+  // ==================== Helper Methods ====================
+
+  // The ranked XP includes ledger events not yet aggregated into the user row, so the level is
+  // derived from it rather than read from users.level
+  private LeaderboardEntry mapToLeaderboardEntry(RankedUser rankedUser, User user) {
+    return new LeaderboardEntry(
+        rankedUser.rank(),
+        user.getId(),
+        user.getUsername(),
+        rankedUser.experiencePoints(),
+        levelTable.levelFor(rankedUser.experiencePoints()));
+  }
+}
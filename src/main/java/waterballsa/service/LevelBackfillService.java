@@ -0,0 +1,178 @@
+package waterballsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import waterballsa.repository.UserLevelRow;
+import waterballsa.repository.UserRepository;
+import waterballsa.util.LevelTable;
+
+/**
+ * Recomputes {@code users.level} from experience points with the current {@link LevelTable}.
+ *
+ * <p>Deliveries keep the level up to date, so levels only go stale when the thresholds change
+ * (which needs a restart) or experience is changed outside the application. The backfill therefore
+ * runs once, shortly after startup. Users are read in keyset-paginated chunks without locks, and
+ * only rows whose level is wrong are updated, each chunk in its own short transaction with a lock
+ * timeout, so the table is never locked and deliveries are never blocked for long.
+ */
+@Service
+public class LevelBackfillService {
+
+  private static final Logger logger = LoggerFactory.getLogger(LevelBackfillService.class);
+
+  // Skipped if the experience points changed since the chunk was read: that delivery already set
+  // the level for the new value
+  private static final String UPDATE_LEVEL_SQL =
+      "UPDATE users SET level = ? WHERE id = ? AND experience_points = ?";
+
+  private final UserRepository userRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final LevelTable levelTable;
+  private final int batchSize;
+  private final int lockTimeoutMs;
+  private final Counter updatedCounter;
+  private final Counter skippedCounter;
+
+  public LevelBackfillService(
+      UserRepository userRepository,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      LevelTable levelTable,
+      MeterRegistry meterRegistry,
+      @Value("${levels.backfill.batch-size}") int batchSize,
+      @Value("${levels.backfill.lock-timeout-ms}") int lockTimeoutMs) {
+    this.userRepository = userRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.levelTable = levelTable;
+    this.batchSize = batchSize;
+    this.lockTimeoutMs = lockTimeoutMs;
+    this.updatedCounter =
+        Counter.builder("users.level_backfill.updated")
+            .description("User levels corrected by the level backfill")
+            .register(meterRegistry);
+    this.skippedCounter =
+        Counter.builder("users.level_backfill.skipped")
+            .description("User levels the level backfill could not update (e.g. lock timeout)")
+            .register(meterRegistry);
+  }
+
+  /** Run the backfill once after startup. */
+  @Scheduled(initialDelayString = "${levels.backfill.initial-delay-ms}")
+  public void backfillAfterStartup() {
+    backfill();
+  }
+
+  /**
+   * Recompute the level of every user.
+   *
+   * <p>A chunk whose update fails (typically a lock timeout) is retried one user at a time, and
+   * users that still cannot be updated are skipped, so one busy row never ends the run. A locked
+   * row is usually being written by the experience aggregator, which sets the level itself.
+   *
+   * @return number of users whose level was corrected
+   */
+  public int backfill() {
+    int scanned = 0;
+    int updated = 0;
+    int skipped = 0;
+    long afterId = 0;
+
+    try {
+      List<UserLevelRow> chunk;
+      do {
+        chunk = userRepository.findLevelsAfter(afterId, batchSize);
+        List<Object[]> corrections = findCorrections(chunk);
+        if (!corrections.isEmpty()) {
+          ChunkResult result = writeChunk(corrections);
+          updated += result.updated();
+          skipped += result.skipped();
+        }
+        scanned += chunk.size();
+        if (!chunk.isEmpty()) {
+          afterId = chunk.get(chunk.size() - 1).getId();
+        }
+      } while (chunk.size() == batchSize);
+    } catch (DataAccessException e) {
+      // Reading failed, e.g. the database is unavailable; there is nothing to continue from
+      logger.warn("Level backfill stopped early after user {}: {}", afterId, e.getMessage());
+    }
+
+    logger.info(
+        "Level backfill scanned {} users, corrected {} and skipped {}", scanned, updated, skipped);
+    return updated;
+  }
+
+  // ==================== Helper Methods ====================
+
+  /** Build the update arguments (level, id, experience points) of users with a wrong level. */
+  private List<Object[]> findCorrections(List<UserLevelRow> chunk) {
+    List<Object[]> corrections = new ArrayList<>();
+    for (UserLevelRow user : chunk) {
+      int level = levelTable.levelFor(user.getExperiencePoints());
+      if (level != user.getLevel()) {
+        corrections.add(new Object[] {level, user.getId(), user.getExperiencePoints()});
+      }
+    }
+    return corrections;
+  }
+
+  /**
+   * Write the chunk's corrections in one transaction, or one user at a time if that fails.
+   *
+   * @return number of users whose level was corrected, and of users skipped after a failure
+   */
+  private ChunkResult writeChunk(List<Object[]> corrections) {
+    try {
+      return new ChunkResult(
+          counted(transactionTemplate.execute(status -> updateLevels(corrections))), 0);
+    } catch (DataAccessException e) {
+      logger.warn("Level backfill chunk failed, retrying user by user: {}", e.getMessage());
+    }
+
+    int written = 0;
+    int skipped = 0;
+    for (Object[] correction : corrections) {
+      try {
+        written +=
+            counted(
+                transactionTemplate.execute(
+                    status -> updateLevels(Collections.singletonList(correction))));
+      } catch (DataAccessException e) {
+        skipped++;
+        skippedCounter.increment();
+        logger.warn("Skipping level backfill of user {}: {}", correction[1], e.getMessage());
+      }
+    }
+    return new ChunkResult(written, skipped);
+  }
+
+  private int counted(int written) {
+    updatedCounter.increment(written);
+    return written;
+  }
+
+  private int updateLevels(List<Object[]> corrections) {
+    // SET LOCAL only lasts until the end of the current chunk's transaction
+    jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+    int written = 0;
+    for (int count : jdbcTemplate.batchUpdate(UPDATE_LEVEL_SQL, corrections)) {
+      written += count;
+    }
+    return written;
+  }
+
+  private record ChunkResult(int updated, int skipped) {}
+}
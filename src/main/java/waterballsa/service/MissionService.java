@@ -3,18 +3,22 @@ package waterballsa.service;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.RewardCatalog;
 import waterballsa.dto.MissionDetailResponse;
 import waterballsa.dto.MissionResourceDTO;
 import waterballsa.dto.MissionRewardDTO;
 import waterballsa.entity.Mission;
+import waterballsa.entity.MissionAccessLevel;
 import waterballsa.entity.MissionResource;
 import waterballsa.exception.ForbiddenException;
 import waterballsa.exception.MissionNotFoundException;
+import waterballsa.repository.MissionContentVersion;
 import waterballsa.repository.MissionRepository;
 import waterballsa.validator.MissionAccessValidator;
 
@@ -22,15 +26,18 @@ import waterballsa.validator.MissionAccessValidator;
 public class MissionService {
 
   private static final Logger logger = LoggerFactory.getLogger(MissionService.class);
-  private static final Integer DEFAULT_EXPERIENCE_REWARD = 100;
 
   private final MissionAccessValidator missionAccessValidator;
   private final MissionRepository missionRepository;
+  private final RewardCatalog rewardCatalog;
 
   public MissionService(
-      MissionAccessValidator missionAccessValidator, MissionRepository missionRepository) {
+      MissionAccessValidator missionAccessValidator,
+      MissionRepository missionRepository,
+      RewardCatalog rewardCatalog) {
     this.missionAccessValidator = missionAccessValidator;
     this.missionRepository = missionRepository;
+    this.rewardCatalog = rewardCatalog;
   }
 
   /**
@@ -64,6 +71,42 @@ public class MissionService {
     return mapToMissionDetailResponse(mission);
   }
 
+  /**
+   * Get the ETag of a mission detail without loading the mission entity. Access is validated the
+   * same way as {@link #getMissionDetail(Long, Long, Long)} so a 304 is never returned to a user
+   * who may not see the mission.
+   *
+   * @param journeyId Journey ID (for validation)
+   * @param missionId Mission ID
+   * @param userId User ID (null if not authenticated)
+   * @return the ETag, or empty if the mission does not exist
+   * @throws MissionNotFoundException if mission doesn't belong to the journey
+   * @throws ForbiddenException if user doesn't have access to the mission
+   */
+  @Transactional(readOnly = true)
+  public Optional<String> getMissionDetailETag(Long journeyId, Long missionId, Long userId) {
+    Optional<MissionContentVersion> version = missionRepository.findContentVersionById(missionId);
+    if (version.isEmpty()) {
+      return Optional.empty();
+    }
+
+    MissionContentVersion missionVersion = version.get();
+    missionAccessValidator.validateMissionBelongsToJourney(
+        missionId, missionVersion.getJourneyId(), journeyId);
+    missionAccessValidator.validateMissionAccess(
+        MissionAccessLevel.valueOf(missionVersion.getAccessLevel()),
+        missionVersion.getJourneyId(),
+        userId);
+
+    return Optional.of(
+        "mission-"
+            + missionId
+            + "-"
+            + missionVersion.getRowCount()
+            + "-"
+            + missionVersion.getLastModifiedMicros());
+  }
+
   // ==================== Helper Methods ====================
 
   private MissionDetailResponse mapToMissionDetailResponse(Mission mission) {
@@ -82,7 +125,7 @@ public class MissionService {
     // Calculate video length from first video content
     String videoLength = calculateVideoLength(resources);
 
-    MissionRewardDTO reward = new MissionRewardDTO(DEFAULT_EXPERIENCE_REWARD);
+    MissionRewardDTO reward = new MissionRewardDTO(rewardCatalog.getExperience(mission.getId()));
 
     return new MissionDetailResponse(
         mission.getId(),
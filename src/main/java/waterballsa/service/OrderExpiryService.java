@@ -0,0 +1,119 @@
+package waterballsa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import waterballsa.cluster.SchedulerLock;
+import waterballsa.entity.Order;
+import waterballsa.repository.OrderRepository;
+
+/**
+ * Marks unpaid orders as EXPIRED once their payment deadline ({@code expired_at}) has passed.
+ *
+ * <p>Reads already derive the expiry from the deadline (see {@link Order#getEffectiveStatus()}), so
+ * this job only compacts the stored status and can run rarely. Orders are expired with set-based
+ * {@code UPDATE} statements in chunks, each in its own short transaction with a lock timeout, so no
+ * order is loaded into memory and locks are held only for one chunk. Rows locked by a concurrent
+ * payment are skipped. The {@link SchedulerLock} makes sure only one instance runs the job at a
+ * time.
+ */
+@Service
+public class OrderExpiryService {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrderExpiryService.class);
+
+  private static final String LOCK_NAME = "order_expiry";
+
+  private final OrderRepository orderRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final SchedulerLock schedulerLock;
+  private final int batchSize;
+  private final int maxBatches;
+  private final int lockTimeoutMs;
+  private final Duration lockAtMostFor;
+  private final Counter expiredCounter;
+  private final Timer expiryTimer;
+
+  public OrderExpiryService(
+      OrderRepository orderRepository,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      SchedulerLock schedulerLock,
+      MeterRegistry meterRegistry,
+      @Value("${orders.expiry.batch-size}") int batchSize,
+      @Value("${orders.expiry.max-batches}") int maxBatches,
+      @Value("${orders.expiry.lock-timeout-ms}") int lockTimeoutMs,
+      @Value("${orders.expiry.lock-at-most-for-ms}") long lockAtMostForMs) {
+    this.orderRepository = orderRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.schedulerLock = schedulerLock;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.lockTimeoutMs = lockTimeoutMs;
+    this.lockAtMostFor = Duration.ofMillis(lockAtMostForMs);
+    this.expiredCounter =
+        Counter.builder("orders.expired")
+            .description("Unpaid orders marked as EXPIRED by the expiry job")
+            .register(meterRegistry);
+    this.expiryTimer =
+        Timer.builder("orders.expiry")
+            .description("Time spent per order expiry run")
+            .register(meterRegistry);
+  }
+
+  /** Scheduled task to expire overdue unpaid orders in chunks, on one instance at a time. */
+  @Scheduled(cron = "${orders.expiry.cron}")
+  public void expireOrders() {
+    schedulerLock.runExclusively(
+        LOCK_NAME, lockAtMostFor, () -> expiryTimer.record(this::expireOverdueOrders));
+  }
+
+  /**
+   * Expire all overdue unpaid orders, up to the per-run chunk limit.
+   *
+   * @return number of expired orders
+   */
+  public int expireOverdueOrders() {
+    LocalDateTime now = LocalDateTime.now();
+    int totalExpired = 0;
+
+    try {
+      for (int batch = 0; batch < maxBatches; batch++) {
+        int expired = transactionTemplate.execute(status -> expireBatch(now));
+        totalExpired += expired;
+        expiredCounter.increment(expired);
+        if (expired < batchSize) {
+          break;
+        }
+      }
+    } catch (DataAccessException e) {
+      // Typically a lock timeout; remaining orders are picked up by the next run
+      logger.warn("Order expiry stopped early: {}", e.getMessage());
+    }
+
+    if (totalExpired > 0) {
+      logger.info("Expired {} unpaid orders", totalExpired);
+    }
+    return totalExpired;
+  }
+
+  // ==================== Helper Methods ====================
+
+  private int expireBatch(LocalDateTime now) {
+    // SET LOCAL only lasts until the end of the current chunk's transaction
+    jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+    return orderRepository.expireOverdueBatch(now, batchSize);
+  }
+}
@@ -4,12 +4,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.JourneyTitleCache;
 import waterballsa.dto.CreateOrderRequest;
 import waterballsa.dto.OrderResponse;
 import waterballsa.dto.PayOrderResponse;
@@ -26,21 +27,21 @@ public class OrderService {
 
   private final OrderValidator orderValidator;
   private final OrderRepository orderRepository;
-  private final JourneyRepository journeyRepository;
   private final UserJourneyRepository userJourneyRepository;
   private final UserRepository userRepository;
+  private final JourneyTitleCache journeyTitleCache;
 
   public OrderService(
       OrderValidator orderValidator,
       OrderRepository orderRepository,
-      JourneyRepository journeyRepository,
       UserJourneyRepository userJourneyRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      JourneyTitleCache journeyTitleCache) {
     this.orderValidator = orderValidator;
     this.orderRepository = orderRepository;
-    this.journeyRepository = journeyRepository;
     this.userJourneyRepository = userJourneyRepository;
     this.userRepository = userRepository;
+    this.journeyTitleCache = journeyTitleCache;
   }
 
   /**
@@ -86,9 +87,9 @@ public class OrderService {
 
     orderValidator.validateJourneyNotPurchased(userId, journeyId);
 
-    // Check if user already has an unpaid order for this journey
+    // Check if user already has a payable order for this journey (an overdue one is not reused)
     var existingOrder =
-        orderRepository.findByUserIdAndStatusAndJourneyId(userId, OrderStatus.UNPAID, journeyId);
+        orderRepository.findPayableByUserIdAndJourneyId(userId, journeyId, LocalDateTime.now());
     if (existingOrder.isPresent()) {
       logger.info("Returning existing unpaid order for user {} and journey {}", userId, journeyId);
       return new OrderCreationResult.Existing(mapToOrderResponse(existingOrder.get()));
@@ -179,7 +180,7 @@ public class OrderService {
     return new PayOrderResponse(
         order.getId(),
         order.getOrderNumber(),
-        order.getStatus().name(),
+        order.getEffectiveStatus().name(),
         order.getPrice(),
         paidAtMillis,
         "付款完成");
@@ -204,26 +205,21 @@ public class OrderService {
             ? order.getExpiredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
             : null;
 
-    // Map order items
+    // Resolve all journey titles at once, then map order items
+    Map<Long, String> journeyTitles =
+        journeyTitleCache.getTitles(
+            order.getItems().stream().map(OrderItem::getJourneyId).collect(Collectors.toSet()));
     List<OrderResponse.OrderItemResponse> items =
         order.getItems().stream()
             .map(
-                item -> {
-                  // Fetch journey title
-                  String journeyTitle =
-                      journeyRepository
-                          .findByIdAndDeletedAtIsNull(item.getJourneyId())
-                          .map(Journey::getTitle)
-                          .orElse("Unknown Journey");
-
-                  return new OrderResponse.OrderItemResponse(
-                      item.getJourneyId(),
-                      journeyTitle,
-                      item.getQuantity(),
-                      item.getOriginalPrice(),
-                      item.getDiscount(),
-                      item.getPrice());
-                })
+                item ->
+                    new OrderResponse.OrderItemResponse(
+                        item.getJourneyId(),
+                        journeyTitles.getOrDefault(item.getJourneyId(), "Unknown Journey"),
+                        item.getQuantity(),
+                        item.getOriginalPrice(),
+                        item.getDiscount(),
+                        item.getPrice()))
             .collect(Collectors.toList());
 
     return new OrderResponse(
@@ -231,7 +227,7 @@ public class OrderService {
         order.getOrderNumber(),
         order.getUserId(),
         username,
-        order.getStatus().name(),
+        order.getEffectiveStatus().name(),
         order.getOriginalPrice(),
         order.getDiscount(),
         order.getPrice(),
@@ -240,25 +236,4 @@ public class OrderService {
         paidAtMillis,
         expiredAtMillis);
   }
-
-  /** Scheduled task to expire unpaid orders after 3 days. Runs every 10 minutes. */
-  @Scheduled(cron = "0 */10 * * * *")
-  @Transactional
-  public void expireOrders() {
-    LocalDateTime now = LocalDateTime.now();
-    List<Order> expiredOrders =
-        orderRepository.findByStatusAndExpiredAtBefore(OrderStatus.UNPAID, now);
-
-    if (!expiredOrders.isEmpty()) {
-      logger.info("Found {} orders to expire", expiredOrders.size());
-
-      for (Order order : expiredOrders) {
-        order.markAsExpired();
-        orderRepository.save(order);
-        logger.info("Expired order {}", order.getId());
-      }
-
-      logger.info("Successfully expired {} orders", expiredOrders.size());
-    }
-  }
 }
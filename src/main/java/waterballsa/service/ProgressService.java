@@ -1,40 +1,68 @@
 package waterballsa.service;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.LeaderboardIndex;
+import waterballsa.cache.MissionMeta;
+import waterballsa.cache.ProgressWriteBuffer;
+import waterballsa.cache.RewardCatalog;
+import waterballsa.dto.BatchUpdateProgressRequest.ProgressEntry;
+import waterballsa.dto.BatchUpdateProgressResponse;
 import waterballsa.dto.DeliverResponse;
 import waterballsa.dto.UserMissionProgressResponse;
-import waterballsa.entity.Mission;
-import waterballsa.entity.MissionResource;
 import waterballsa.entity.ProgressStatus;
-import waterballsa.entity.User;
 import waterballsa.entity.UserMissionProgress;
 import waterballsa.exception.UnauthorizedException;
+import waterballsa.repository.BatchProgressUpsertResult;
+import waterballsa.repository.MissionRepository;
+import waterballsa.repository.ProgressUpsertResult;
 import waterballsa.repository.UserMissionProgressRepository;
 import waterballsa.repository.UserRepository;
+import waterballsa.service.ExperienceLedgerService.ExperienceTotal;
 import waterballsa.validator.ProgressValidator;
 
 @Service
 public class ProgressService {
 
   private static final Logger logger = LoggerFactory.getLogger(ProgressService.class);
-  private static final Integer DEFAULT_EXPERIENCE_REWARD = 100;
 
   private final ProgressValidator progressValidator;
   private final UserMissionProgressRepository progressRepository;
   private final UserRepository userRepository;
+  private final MissionRepository missionRepository;
+  private final ProgressWriteBuffer progressWriteBuffer;
+  private final LeaderboardIndex leaderboardIndex;
+  private final RewardCatalog rewardCatalog;
+  private final ExperienceLedgerService experienceLedgerService;
 
   public ProgressService(
       ProgressValidator progressValidator,
       UserMissionProgressRepository progressRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      MissionRepository missionRepository,
+      ProgressWriteBuffer progressWriteBuffer,
+      LeaderboardIndex leaderboardIndex,
+      RewardCatalog rewardCatalog,
+      ExperienceLedgerService experienceLedgerService) {
     this.progressValidator = progressValidator;
     this.progressRepository = progressRepository;
     this.userRepository = userRepository;
+    this.missionRepository = missionRepository;
+    this.progressWriteBuffer = progressWriteBuffer;
+    this.leaderboardIndex = leaderboardIndex;
+    this.rewardCatalog = rewardCatalog;
+    this.experienceLedgerService = experienceLedgerService;
   }
 
   /**
@@ -62,18 +90,31 @@ public class ProgressService {
             .findByUserIdAndMissionIdAndDeletedAtIsNull(pathUserId, missionId)
             .orElse(null);
 
+    // A position reported since the last flush is newer than the stored one
+    Integer pendingPosition =
+        progressWriteBuffer.getPendingPosition(pathUserId, missionId).orElse(null);
+
     if (progress == null) {
       logger.debug("No progress record found, returning default progress");
-      return new UserMissionProgressResponse(missionId, ProgressStatus.UNCOMPLETED.name(), 0);
+      return new UserMissionProgressResponse(
+          missionId,
+          ProgressStatus.UNCOMPLETED.name(),
+          pendingPosition != null ? pendingPosition : 0);
     }
 
     logger.info("Successfully retrieved progress for user: {}, mission: {}", pathUserId, missionId);
-    return mapToResponse(progress);
+    return new UserMissionProgressResponse(
+        missionId,
+        progress.getStatus().name(),
+        pendingPosition != null ? pendingPosition : progress.getWatchPositionSeconds());
   }
 
   /**
    * Update user's progress for a specific mission (upsert operation).
    *
+   * <p>Positions that do not complete the video are buffered and written behind by {@link
+   * ProgressWriteBuffer}; reaching the video duration is persisted synchronously.
+   *
    * @param pathUserId User ID from path parameter
    * @param missionId Mission ID
    * @param watchPositionSeconds Watch position in seconds
@@ -93,42 +134,111 @@ public class ProgressService {
     progressValidator.validateProgressAccess(pathUserId, currentUserId);
     progressValidator.validateWatchPosition(watchPositionSeconds);
 
-    Mission mission = progressValidator.validateAndGetMission(missionId);
+    MissionMeta mission = progressValidator.validateAndGetMission(missionId);
     progressValidator.validateMissionTypeSupportsProgress(mission);
 
-    Integer videoDuration = getVideoDuration(mission);
+    Integer videoDuration = mission.videoDurationSeconds();
     Integer cappedPosition = capWatchPosition(watchPositionSeconds, videoDuration);
 
-    UserMissionProgress progress =
-        progressRepository
-            .findByUserIdAndMissionIdAndDeletedAtIsNull(pathUserId, missionId)
-            .orElseGet(
-                () -> {
-                  User user =
-                      userRepository
-                          .findById(pathUserId)
-                          .orElseThrow(
-                              () -> new UnauthorizedException("User not found: " + pathUserId));
-                  return new UserMissionProgress(user, mission);
-                });
-
-    progress.updateWatchPosition(cappedPosition);
-
-    // Check if video is completed (reached duration)
-    if (videoDuration != null && cappedPosition.equals(videoDuration)) {
-      progress.markAsCompleted();
+    if (videoDuration == null || !cappedPosition.equals(videoDuration)) {
+      return bufferWatchPosition(pathUserId, missionId, cappedPosition);
     }
 
-    progressRepository.save(progress);
+    // The buffered position is older than this one and must not overwrite it when flushed
+    progressWriteBuffer.discard(pathUserId, missionId);
+
+    // Single round trip; the cap and the completion are applied by the upsert itself
+    ProgressUpsertResult result =
+        progressRepository
+            .upsertWatchPosition(
+                pathUserId, missionId, watchPositionSeconds, videoDuration, LocalDateTime.now())
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Progress record is deleted for user: "
+                            + pathUserId
+                            + ", mission: "
+                            + missionId));
 
     logger.info(
         "Successfully updated progress for user: {}, mission: {}, position: {}, status: {}",
         pathUserId,
         missionId,
-        cappedPosition,
-        progress.getStatus());
+        result.getWatchPositionSeconds(),
+        result.getStatus());
+
+    return new UserMissionProgressResponse(
+        missionId, result.getStatus(), result.getWatchPositionSeconds());
+  }
+
+  /**
+   * Update user's progress for many missions at once, e.g. when an offline player reconnects.
+   *
+   * <p>All missions are validated before anything is written, and all positions are written with a
+   * single upsert statement. When a mission appears more than once, its last entry wins.
+   *
+   * @param pathUserId User ID from path parameter
+   * @param entries Mission IDs with watch positions in seconds
+   * @param currentUserId Current authenticated user ID
+   * @return BatchUpdateProgressResponse with the resulting progress of each mission
+   */
+  @Transactional
+  public BatchUpdateProgressResponse updateProgressBatch(
+      @NonNull Long pathUserId, List<ProgressEntry> entries, Long currentUserId) {
+    logger.debug(
+        "Updating {} progress entries for user: {}, currentUser: {}",
+        entries.size(),
+        pathUserId,
+        currentUserId);
 
-    return mapToResponse(progress);
+    progressValidator.validateProgressAccess(pathUserId, currentUserId);
+
+    Map<Long, Integer> positions = new LinkedHashMap<>();
+    for (ProgressEntry entry : entries) {
+      progressValidator.validateWatchPosition(entry.watchPositionSeconds());
+      positions.put(entry.missionId(), entry.watchPositionSeconds());
+    }
+
+    Map<Long, MissionMeta> missions = progressValidator.validateAndGetMissions(positions.keySet());
+    missions.values().forEach(progressValidator::validateMissionTypeSupportsProgress);
+
+    Long[] missionIds = positions.keySet().toArray(Long[]::new);
+    Integer[] durations =
+        Arrays.stream(missionIds)
+            .map(missionId -> missions.get(missionId).videoDurationSeconds())
+            .toArray(Integer[]::new);
+
+    // Positions buffered before this batch are older and must not overwrite it when flushed
+    positions.keySet().forEach(missionId -> progressWriteBuffer.discard(pathUserId, missionId));
+
+    Map<Long, BatchProgressUpsertResult> results =
+        progressRepository
+            .upsertWatchPositions(
+                pathUserId,
+                missionIds,
+                positions.values().toArray(Integer[]::new),
+                durations,
+                LocalDateTime.now())
+            .stream()
+            .collect(
+                Collectors.toMap(BatchProgressUpsertResult::getMissionId, Function.identity()));
+
+    List<UserMissionProgressResponse> progress =
+        positions.keySet().stream()
+            .map(results::get)
+            .filter(Objects::nonNull)
+            .map(
+                result ->
+                    new UserMissionProgressResponse(
+                        result.getMissionId(),
+                        result.getStatus(),
+                        result.getWatchPositionSeconds()))
+            .toList();
+
+    logger.info(
+        "Successfully updated {} progress entries for user: {}", progress.size(), pathUserId);
+
+    return new BatchUpdateProgressResponse(progress);
   }
 
   /**
@@ -150,18 +260,21 @@ public class ProgressService {
 
     progressValidator.validateProgressAccess(pathUserId, currentUserId);
 
-    Mission mission = progressValidator.validateAndGetMission(missionId);
-    User user = findUserOrThrow(pathUserId);
+    MissionMeta mission = progressValidator.validateAndGetMission(missionId);
     UserMissionProgress progress = findProgress(pathUserId, missionId);
 
     progressValidator.validateNotAlreadyDelivered(progress);
     progressValidator.validateVideoMissionCompleted(mission, progress);
 
-    progress = getOrCreateProgress(user, mission, progress);
+    // Appended to the ledger: the hot users row is not written or locked here
+    Integer experienceGained = rewardCatalog.getExperience(missionId);
+    experienceLedgerService.grantMissionReward(pathUserId, missionId, experienceGained);
+
+    progress = getOrCreateProgress(pathUserId, missionId, progress);
     progress.markAsDelivered();
     progressRepository.save(progress);
 
-    Integer experienceGained = grantExperienceReward(user);
+    ExperienceTotal experience = getExperienceAfterGrant(pathUserId);
 
     logger.info(
         "Successfully delivered mission for user: {}, mission: {}, XP gained: {}",
@@ -170,19 +283,28 @@ public class ProgressService {
         experienceGained);
 
     return new DeliverResponse(
-        "任務交付成功", experienceGained, user.getExperiencePoints(), user.getLevel());
+        "任務交付成功", experienceGained, experience.experiencePoints(), experience.level());
   }
 
   // ==================== Helper Methods ====================
 
-  private Integer getVideoDuration(Mission mission) {
-    return mission.getResources().stream()
-        .filter(resource -> !resource.isDeleted())
-        .sorted(Comparator.comparing(MissionResource::getContentOrder))
-        .filter(resource -> resource.getDurationSeconds() != null)
-        .map(MissionResource::getDurationSeconds)
-        .findFirst()
-        .orElse(null);
+  private UserMissionProgressResponse bufferWatchPosition(
+      Long userId, Long missionId, Integer watchPosition) {
+    ProgressStatus status =
+        progressRepository
+            .findStatusByUserIdAndMissionId(userId, missionId)
+            .orElse(ProgressStatus.UNCOMPLETED);
+
+    progressWriteBuffer.record(userId, missionId, watchPosition);
+
+    logger.debug(
+        "Buffered progress for user: {}, mission: {}, position: {}, status: {}",
+        userId,
+        missionId,
+        watchPosition,
+        status);
+
+    return new UserMissionProgressResponse(missionId, status.name(), watchPosition);
   }
 
   private Integer capWatchPosition(Integer watchPosition, Integer duration) {
@@ -192,19 +314,6 @@ public class ProgressService {
     return Math.min(watchPosition, duration);
   }
 
-  private UserMissionProgressResponse mapToResponse(UserMissionProgress progress) {
-    return new UserMissionProgressResponse(
-        progress.getMission().getId(),
-        progress.getStatus().name(),
-        progress.getWatchPositionSeconds());
-  }
-
-  private User findUserOrThrow(@NonNull Long userId) {
-    return userRepository
-        .findById(userId)
-        .orElseThrow(() -> new UnauthorizedException("User not found: " + userId));
-  }
-
   private UserMissionProgress findProgress(Long userId, Long missionId) {
     return progressRepository
         .findByUserIdAndMissionIdAndDeletedAtIsNull(userId, missionId)
@@ -212,17 +321,21 @@ public class ProgressService {
   }
 
   private UserMissionProgress getOrCreateProgress(
-      User user, Mission mission, UserMissionProgress progress) {
+      Long userId, Long missionId, UserMissionProgress progress) {
     if (progress == null) {
-      return new UserMissionProgress(user, mission);
+      // Both were validated already; references avoid loading them
+      return new UserMissionProgress(
+          userRepository.getReferenceById(userId), missionRepository.getReferenceById(missionId));
     }
     return progress;
   }
 
-  private Integer grantExperienceReward(User user) {
-    Integer experienceGained = DEFAULT_EXPERIENCE_REWARD;
-    user.addExperience(experienceGained);
-    userRepository.save(user);
-    return experienceGained;
+  private ExperienceTotal getExperienceAfterGrant(Long userId) {
+    ExperienceTotal experience =
+        experienceLedgerService
+            .getExperience(userId)
+            .orElseThrow(() -> new UnauthorizedException("User not found: " + userId));
+    leaderboardIndex.scoreChanged(userId, experience.experiencePoints());
+    return experience;
   }
 }
@@ -2,14 +2,18 @@ package waterballsa.service;
 
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import waterballsa.cache.JourneyTitleCache;
 import waterballsa.dto.OrderItemSummary;
 import waterballsa.dto.OrderListResponse;
 import waterballsa.dto.OrderSummary;
@@ -17,17 +21,17 @@ import waterballsa.dto.Pagination;
 import waterballsa.dto.UserInfo;
 import waterballsa.dto.UserJourneyItem;
 import waterballsa.dto.UserJourneyListResponse;
-import waterballsa.entity.Journey;
 import waterballsa.entity.Order;
+import waterballsa.entity.OrderItem;
 import waterballsa.entity.User;
-import waterballsa.entity.UserJourney;
-import waterballsa.exception.JourneyNotFoundException;
-import waterballsa.exception.OrderNotFoundException;
+import waterballsa.exception.InvalidInputException;
 import waterballsa.exception.UserNotFoundException;
-import waterballsa.repository.JourneyRepository;
 import waterballsa.repository.OrderRepository;
+import waterballsa.repository.PurchasedJourneyRow;
 import waterballsa.repository.UserJourneyRepository;
 import waterballsa.repository.UserRepository;
+import waterballsa.service.ExperienceLedgerService.ExperienceTotal;
+import waterballsa.util.OrderCursor;
 import waterballsa.validator.UserAccessValidator;
 
 @Service
@@ -39,19 +43,25 @@ public class UserService {
   private final UserRepository userRepository;
   private final OrderRepository orderRepository;
   private final UserJourneyRepository userJourneyRepository;
-  private final JourneyRepository journeyRepository;
+  private final ExperienceLedgerService experienceLedgerService;
+  private final JourneyTitleCache journeyTitleCache;
+  private final int maxOrderLimit;
 
   public UserService(
       UserAccessValidator userAccessValidator,
       UserRepository userRepository,
       OrderRepository orderRepository,
       UserJourneyRepository userJourneyRepository,
-      JourneyRepository journeyRepository) {
+      ExperienceLedgerService experienceLedgerService,
+      JourneyTitleCache journeyTitleCache,
+      @Value("${users.orders.max-limit}") int maxOrderLimit) {
     this.userAccessValidator = userAccessValidator;
     this.userRepository = userRepository;
     this.orderRepository = orderRepository;
     this.userJourneyRepository = userJourneyRepository;
-    this.journeyRepository = journeyRepository;
+    this.experienceLedgerService = experienceLedgerService;
+    this.journeyTitleCache = journeyTitleCache;
+    this.maxOrderLimit = maxOrderLimit;
   }
 
   @Transactional(readOnly = true)
@@ -67,13 +77,19 @@ public class UserService {
                   return new UserNotFoundException("User not found");
                 });
 
+    // Includes grants the ledger aggregator has not folded into the user row yet
+    ExperienceTotal experience =
+        experienceLedgerService
+            .getExperience(userId)
+            .orElse(new ExperienceTotal(user.getExperiencePoints(), user.getLevel()));
+
     logger.debug("Successfully fetched user profile for user ID: {}", userId);
 
     return new UserInfo(
         user.getId(),
         user.getUsername(),
-        user.getExperiencePoints(),
-        user.getLevel(),
+        experience.experiencePoints(),
+        experience.level(),
         user.getRole());
   }
 
@@ -85,6 +101,7 @@ public class UserService {
    * @param page Page number (1-indexed)
    * @param limit Items per page
    * @return Order list response with pagination info
+   * @throws InvalidInputException if the page or the limit is out of range
    */
   @Transactional(readOnly = true)
   public OrderListResponse getUserOrders(
@@ -97,26 +114,67 @@ public class UserService {
         limit);
 
     userAccessValidator.validateSelfAccess(userId, authenticatedUserId);
+    if (page < 1) {
+      throw new InvalidInputException("Page must be positive: " + page);
+    }
+    validateOrderLimit(limit);
 
     // Fetch paginated orders (Spring Data uses 0-indexed pages)
     Pageable pageable = PageRequest.of(page - 1, limit);
     Page<Order> orderPage = orderRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
-    // Map to DTOs
-    List<OrderSummary> orderSummaries =
-        orderPage.getContent().stream().map(this::mapToOrderSummary).collect(Collectors.toList());
-
-    // Create pagination info
-    Pagination pagination = new Pagination(page, limit, orderPage.getTotalElements());
+    List<Order> orders = orderPage.getContent();
+    String nextCursor = orderPage.hasNext() ? nextCursor(orders) : null;
+    Pagination pagination = new Pagination(page, limit, orderPage.getTotalElements(), nextCursor);
 
     logger.info(
         "Successfully fetched {} orders for user {} (page {}/{})",
-        orderSummaries.size(),
+        orders.size(),
         userId,
         page,
         orderPage.getTotalPages());
 
-    return new OrderListResponse(orderSummaries, pagination);
+    return toOrderListResponse(orders, pagination);
+  }
+
+  /**
+   * Get the page of the user's orders after a cursor (keyset pagination). Every page costs the same
+   * whatever its depth, and the total is not counted.
+   *
+   * @param userId User ID from path parameter
+   * @param authenticatedUserId User ID from authentication token
+   * @param after Cursor returned as {@code nextCursor} with the previous page
+   * @param limit Items per page
+   * @return Order list response with the cursor of the next page
+   * @throws InvalidInputException if the cursor is malformed or the limit is out of range
+   */
+  @Transactional(readOnly = true)
+  public OrderListResponse getUserOrdersAfter(
+      Long userId, Long authenticatedUserId, String after, int limit) {
+    logger.debug(
+        "Fetching orders for user {} (authenticated user: {}, after: {}, limit: {})",
+        userId,
+        authenticatedUserId,
+        after,
+        limit);
+
+    userAccessValidator.validateSelfAccess(userId, authenticatedUserId);
+    validateOrderLimit(limit);
+    OrderCursor cursor = OrderCursor.decode(after);
+
+    // One extra row tells whether a next page exists without counting
+    List<Order> orders =
+        orderRepository.findByUserIdAfter(userId, cursor.createdAt(), cursor.id(), limit + 1);
+    boolean hasNext = orders.size() > limit;
+    if (hasNext) {
+      orders = orders.subList(0, limit);
+    }
+
+    Pagination pagination = new Pagination(null, limit, null, hasNext ? nextCursor(orders) : null);
+
+    logger.info("Successfully fetched {} orders for user {} after cursor", orders.size(), userId);
+
+    return toOrderListResponse(orders, pagination);
   }
 
   /**
@@ -135,12 +193,11 @@ public class UserService {
 
     userAccessValidator.validateSelfAccess(userId, authenticatedUserId);
 
-    // Fetch purchased journeys (only PAID orders)
-    List<UserJourney> userJourneys = userJourneyRepository.findPurchasedJourneysByUserId(userId);
-
-    // Map to DTOs
+    // Fetch purchased journeys (only PAID orders) with their journey and order fields in one query
     List<UserJourneyItem> journeyItems =
-        userJourneys.stream().map(this::mapToUserJourneyItem).collect(Collectors.toList());
+        userJourneyRepository.findPurchasedJourneysByUserId(userId).stream()
+            .map(this::mapToUserJourneyItem)
+            .collect(Collectors.toList());
 
     logger.info(
         "Successfully fetched {} purchased journeys for user {}", journeyItems.size(), userId);
@@ -150,13 +207,61 @@ public class UserService {
 
   // ==================== Helper Methods ====================
 
+  private void validateOrderLimit(int limit) {
+    if (limit < 1 || limit > maxOrderLimit) {
+      throw new InvalidInputException("Limit must be between 1 and " + maxOrderLimit);
+    }
+  }
+
+  /**
+   * Map a page of orders to the response. The journey titles of the whole page are resolved at
+   * once, then the DTOs are assembled in memory.
+   *
+   * @param orders Orders on the page
+   * @param pagination Pagination info
+   * @return Order list response
+   */
+  private OrderListResponse toOrderListResponse(List<Order> orders, Pagination pagination) {
+    Map<Long, String> journeyTitles = journeyTitleCache.getTitles(journeyIds(orders));
+    List<OrderSummary> orderSummaries =
+        orders.stream()
+            .map(order -> mapToOrderSummary(order, journeyTitles))
+            .collect(Collectors.toList());
+    return new OrderListResponse(orderSummaries, pagination);
+  }
+
+  /**
+   * Cursor pointing after the last order of a page.
+   *
+   * @param orders Orders on the page, not empty
+   * @return Encoded cursor
+   */
+  private static String nextCursor(List<Order> orders) {
+    Order last = orders.get(orders.size() - 1);
+    return new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+  }
+
+  /**
+   * Collect the distinct journey IDs of all items on the page.
+   *
+   * @param orders Orders on the page
+   * @return Journey IDs
+   */
+  private Set<Long> journeyIds(List<Order> orders) {
+    return orders.stream()
+        .flatMap(order -> order.getItems().stream())
+        .map(OrderItem::getJourneyId)
+        .collect(Collectors.toSet());
+  }
+
   /**
    * Map Order entity to OrderSummary DTO.
    *
    * @param order Order entity
+   * @param journeyTitles Journey titles by journey ID
    * @return OrderSummary DTO
    */
-  private OrderSummary mapToOrderSummary(Order order) {
+  private OrderSummary mapToOrderSummary(Order order, Map<Long, String> journeyTitles) {
     Long createdAtMillis =
         order.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 
@@ -168,20 +273,16 @@ public class UserService {
     List<OrderItemSummary> items =
         order.getItems().stream()
             .map(
-                item -> {
-                  String journeyTitle =
-                      journeyRepository
-                          .findByIdAndDeletedAtIsNull(item.getJourneyId())
-                          .map(Journey::getTitle)
-                          .orElse("Unknown Journey");
-                  return new OrderItemSummary(item.getJourneyId(), journeyTitle);
-                })
+                item ->
+                    new OrderItemSummary(
+                        item.getJourneyId(),
+                        journeyTitles.getOrDefault(item.getJourneyId(), "Unknown Journey")))
             .collect(Collectors.toList());
 
     return new OrderSummary(
         order.getId(),
         order.getOrderNumber(),
-        order.getStatus().name(),
+        order.getEffectiveStatus().name(),
         order.getPrice(),
         items,
         createdAtMillis,
@@ -189,33 +290,22 @@ public class UserService {
   }
 
   /**
-   * Map UserJourney entity to UserJourneyItem DTO.
+   * Map a purchased journey row to UserJourneyItem DTO.
    *
-   * @param userJourney UserJourney entity
+   * @param row Purchased journey row
    * @return UserJourneyItem DTO
    */
-  @SuppressWarnings("null")
-  private UserJourneyItem mapToUserJourneyItem(UserJourney userJourney) {
-    Journey journey =
-        journeyRepository
-            .findByIdAndDeletedAtIsNull(userJourney.getJourneyId())
-            .orElseThrow(() -> new JourneyNotFoundException(userJourney.getJourneyId()));
-
-    Order order =
-        orderRepository
-            .findById(userJourney.getOrderId())
-            .orElseThrow(() -> new OrderNotFoundException(userJourney.getOrderId()));
-
+  private UserJourneyItem mapToUserJourneyItem(PurchasedJourneyRow row) {
     Long purchasedAtMillis =
-        userJourney.getPurchasedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        row.getPurchasedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 
     return new UserJourneyItem(
-        journey.getId(),
-        journey.getTitle(),
-        journey.getSlug(),
-        journey.getCoverImageUrl(),
-        journey.getTeacherName(),
+        row.getJourneyId(),
+        row.getJourneyTitle(),
+        row.getJourneySlug(),
+        row.getCoverImageUrl(),
+        row.getTeacherName(),
         purchasedAtMillis,
-        order.getOrderNumber());
+        row.getOrderNumber());
   }
 }
@@ -0,0 +1,93 @@
+package waterballsa.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter for string keys.
+ *
+ * <p>A negative answer from {@link #mightContain(String)} is always correct; a positive answer may
+ * be a false positive with roughly the configured probability. Elements cannot be removed, so
+ * callers rebuild a new filter when stale entries need to be dropped.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * Create a Bloom filter sized for the expected number of insertions.
+   *
+   * @param expectedInsertions expected number of elements
+   * @param falsePositiveRate desired false positive probability (between 0 and 1)
+   */
+  public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int insertions = Math.max(expectedInsertions, 1);
+    long optimalBits =
+        (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bitCount = Math.max(optimalBits, Long.SIZE);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+  }
+
+  /**
+   * Add an element to the filter.
+   *
+   * @param value the element to add
+   */
+  public void put(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bitIndex = bitIndex(h1 + i * h2);
+      int word = (int) (bitIndex >>> 6);
+      long mask = 1L << bitIndex;
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) {
+          break;
+        }
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  /**
+   * Check whether the element might have been added.
+   *
+   * @param value the element to check
+   * @return false if the element was definitely never added, true if it might have been
+   */
+  public boolean mightContain(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bitIndex = bitIndex(h1 + i * h2);
+      if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private long bitIndex(int combinedHash) {
+    // Flip negative hashes to keep the index within [0, bitCount)
+    int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+    return positive % bitCount;
+  }
+
+  /** 64-bit FNV-1a hash followed by a final avalanche mix. */
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -1,12 +1,14 @@
 package waterballsa.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import javax.crypto.SecretKey;
 import org.slf4j.Logger;
@@ -19,14 +21,19 @@ import waterballsa.entity.User;
 public class JwtUtil {
 
   private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+  private static final String TOKEN_EPOCH_CLAIM = "tokenEpoch";
 
   private final SecretKey secretKey;
   private final long expirationMs;
 
+  // JwtParser is immutable and thread-safe, so a single instance is shared by all requests
+  private final JwtParser jwtParser;
+
   public JwtUtil(
       @Value("${jwt.secret}") String secret, @Value("${jwt.expiration-ms}") long expirationMs) {
     this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
     this.expirationMs = expirationMs;
+    this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
   }
 
   /**
@@ -45,6 +52,7 @@ public class JwtUtil {
             .id(jti)
             .subject(user.getId().toString())
             .claim("username", user.getUsername())
+            .claim(TOKEN_EPOCH_CLAIM, user.getTokenEpoch())
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiration))
             .signWith(secretKey)
@@ -56,66 +64,25 @@ public class JwtUtil {
   }
 
   /**
-   * Validate JWT token
+   * Verify the JWT token signature and expiration, and extract all claims in a single parse.
    *
-   * @param token JWT token to validate
-   * @return true if token is valid, false otherwise
+   * @param token JWT token to verify
+   * @return the verified claims, or empty if the token is invalid or expired
    */
-  public boolean validateToken(String token) {
+  public Optional<VerifiedToken> verify(String token) {
     try {
-      Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-      return true;
+      Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+      Integer tokenEpoch = claims.get(TOKEN_EPOCH_CLAIM, Integer.class);
+      return Optional.of(
+          new VerifiedToken(
+              claims.getId(),
+              Long.parseLong(claims.getSubject()),
+              claims.get("username", String.class),
+              LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()),
+              tokenEpoch != null ? tokenEpoch : 0));
     } catch (Exception e) {
       logger.debug("JWT validation failed: {}", e.getMessage());
-      return false;
+      return Optional.empty();
     }
   }
-
-  /**
-   * Get user ID from JWT token
-   *
-   * @param token JWT token
-   * @return user ID
-   */
-  public Long getUserIdFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return Long.parseLong(claims.getSubject());
-  }
-
-  /**
-   * Get JWT ID (jti) from token
-   *
-   * @param token JWT token
-   * @return JWT ID (jti)
-   */
-  public String getJtiFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return claims.getId();
-  }
-
-  /**
-   * Get expiration time from JWT token
-   *
-   * @param token JWT token
-   * @return expiration time as LocalDateTime
-   */
-  public LocalDateTime getExpirationFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
-  }
-
-  /**
-   * Get username from JWT token
-   *
-   * @param token JWT token
-   * @return username
-   */
-  public String getUsernameFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return claims.get("username", String.class);
-  }
 }
@@ -0,0 +1,55 @@
+package waterballsa.util;
+
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps experience points to a level using a fixed table of thresholds.
+ *
+ * <p>{@code thresholds[i]} is the experience needed to reach level {@code i + 2}; below the first
+ * threshold a user is level 1. The table is a sorted primitive array, so a lookup is a binary
+ * search. The same array is passed to SQL (see {@code
+ * ExperienceEventRepository#aggregatePendingBatch}) where PostgreSQL's {@code width_bucket}
+ * performs the same search, so both always agree.
+ */
+@Component
+public class LevelTable {
+
+  private static final int FIRST_LEVEL = 1;
+
+  private final int[] thresholds;
+  private final Integer[] sqlThresholds;
+
+  public LevelTable(@Value("${levels.thresholds}") int[] thresholds) {
+    for (int i = 0; i < thresholds.length; i++) {
+      if (thresholds[i] <= (i == 0 ? 0 : thresholds[i - 1])) {
+        throw new IllegalArgumentException(
+            "Level thresholds must be positive and strictly increasing: "
+                + Arrays.toString(thresholds));
+      }
+    }
+    this.thresholds = thresholds.clone();
+    this.sqlThresholds = Arrays.stream(thresholds).boxed().toArray(Integer[]::new);
+  }
+
+  /**
+   * Get the level reached with the given experience points.
+   *
+   * @param experiencePoints experience points
+   * @return the level, starting at 1
+   */
+  public int levelFor(int experiencePoints) {
+    int index = Arrays.binarySearch(thresholds, experiencePoints);
+    // Number of thresholds at or below the experience points
+    int reached = index >= 0 ? index + 1 : -(index + 1);
+    return FIRST_LEVEL + reached;
+  }
+
+  /**
+   * @return the thresholds as a SQL array parameter; must not be modified
+   */
+  public Integer[] sqlThresholds() {
+    return sqlThresholds;
+  }
+}
@@ -0,0 +1,65 @@
+package waterballsa.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import waterballsa.exception.InvalidInputException;
+
+/**
+ * Position in a user's order history, ordered by creation time then ID, both descending.
+ *
+ * <p>Clients receive it as an opaque token: the Base64url encoding of {@code
+ * <createdAtMicros>:<id>}. The creation time is kept to the microsecond, the precision of a
+ * PostgreSQL timestamp, so a decoded cursor compares exactly with the stored row.
+ *
+ * @param createdAt creation time of the last order already returned
+ * @param id ID of the last order already returned
+ */
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+
+  private static final long MICROS_PER_SECOND = 1_000_000;
+  private static final int NANOS_PER_MICRO = 1_000;
+
+  /**
+   * Encode the cursor as an opaque token.
+   *
+   * @return URL-safe token
+   */
+  public String encode() {
+    long micros =
+        createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+            + createdAt.getNano() / NANOS_PER_MICRO;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((micros + ":" + id).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decode a token produced by {@link #encode()}.
+   *
+   * @param token cursor token
+   * @return the cursor
+   * @throws InvalidInputException if the token is malformed
+   */
+  public static OrderCursor decode(String token) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+      int separator = decoded.indexOf(':');
+      if (separator < 0) {
+        throw new InvalidInputException("Malformed order cursor: " + token);
+      }
+      long micros = Long.parseLong(decoded.substring(0, separator));
+      LocalDateTime createdAt =
+          LocalDateTime.ofEpochSecond(
+              Math.floorDiv(micros, MICROS_PER_SECOND),
+              (int) Math.floorMod(micros, MICROS_PER_SECOND) * NANOS_PER_MICRO,
+              ZoneOffset.UTC);
+      return new OrderCursor(createdAt, Long.valueOf(decoded.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      // NumberFormatException is an IllegalArgumentException
+      throw new InvalidInputException("Malformed order cursor: " + token);
+    }
+  }
+}
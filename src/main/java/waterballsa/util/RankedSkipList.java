@@ -0,0 +1,253 @@
+package waterballsa.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Skip list of scored IDs ordered by score descending, then ID ascending, with O(log n) expected
+ * rank lookups.
+ *
+ * <p>Every forward link records how many entries it skips (its span), as in Redis sorted sets, so
+ * the position of an entry is the sum of the spans walked to reach it and the entry at a position
+ * is found by walking spans down to it. Each ID has at most one entry; {@link #put} replaces its
+ * score. Not thread-safe: callers synchronize access.
+ */
+public class RankedSkipList {
+
+  private static final int MAX_LEVEL = 32;
+  private static final double LEVEL_PROBABILITY = 0.25;
+
+  private final Node head = new Node(0L, 0, MAX_LEVEL);
+  private final Map<Long, Integer> scores = new HashMap<>();
+  private int level = 1;
+
+  /**
+   * Add the ID with the given score, or move it if it already has a different score.
+   *
+   * @param id entry ID
+   * @param score entry score
+   */
+  public void put(Long id, int score) {
+    Integer previous = scores.put(id, score);
+    if (previous != null) {
+      if (previous == score) {
+        return;
+      }
+      unlink(id, previous);
+    }
+    link(id, score);
+  }
+
+  /**
+   * Remove the ID if present.
+   *
+   * @param id entry ID
+   */
+  public void remove(Long id) {
+    Integer previous = scores.remove(id);
+    if (previous != null) {
+      unlink(id, previous);
+    }
+  }
+
+  /**
+   * Get the score of the ID.
+   *
+   * @param id entry ID
+   * @return the score, or null if the ID is not present
+   */
+  public Integer getScore(Long id) {
+    return scores.get(id);
+  }
+
+  /**
+   * Get the 0-based position of the ID in score order.
+   *
+   * @param id entry ID
+   * @return the position, or empty if the ID is not present
+   */
+  public OptionalInt indexOf(Long id) {
+    Integer score = scores.get(id);
+    if (score == null) {
+      return OptionalInt.empty();
+    }
+
+    Node node = head;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.next[i] != null && !precedes(score, id, node.next[i])) {
+        traversed += node.span[i];
+        node = node.next[i];
+      }
+      if (node != head && node.id == id) {
+        return OptionalInt.of(traversed - 1);
+      }
+    }
+    throw new IllegalStateException("Skip list is missing entry " + id);
+  }
+
+  /**
+   * Count the entries with a strictly higher score, i.e. the competition rank of the score minus
+   * one.
+   *
+   * @param score score to compare with
+   * @return number of entries scoring higher
+   */
+  public int countAbove(int score) {
+    Node node = head;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.next[i] != null && node.next[i].score > score) {
+        traversed += node.span[i];
+        node = node.next[i];
+      }
+    }
+    return traversed;
+  }
+
+  /**
+   * Get consecutive entries in score order.
+   *
+   * @param fromIndex 0-based position of the first entry
+   * @param count maximum number of entries
+   * @return the entries, fewer than {@code count} if the list ends first
+   */
+  public List<Entry> range(int fromIndex, int count) {
+    List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(count, size() - fromIndex)));
+    if (fromIndex < 0 || fromIndex >= size() || count <= 0) {
+      return entries;
+    }
+
+    // Walk the spans down to the entry at position fromIndex + 1 (the head is position 0)
+    Node node = head;
+    int traversed = 0;
+    for (int i = level - 1; i >= 0 && traversed <= fromIndex; i--) {
+      while (node.next[i] != null && traversed + node.span[i] <= fromIndex + 1) {
+        traversed += node.span[i];
+        node = node.next[i];
+      }
+    }
+
+    for (; node != null && entries.size() < count; node = node.next[0]) {
+      entries.add(new Entry(node.id, node.score));
+    }
+    return entries;
+  }
+
+  /**
+   * @return number of entries
+   */
+  public int size() {
+    return scores.size();
+  }
+
+  // ==================== Helper Methods ====================
+
+  private void link(Long id, int score) {
+    Node[] update = new Node[MAX_LEVEL];
+    int[] rank = new int[MAX_LEVEL];
+
+    Node node = head;
+    for (int i = level - 1; i >= 0; i--) {
+      rank[i] = i == level - 1 ? 0 : rank[i + 1];
+      while (node.next[i] != null && precedes(node.next[i], score, id)) {
+        rank[i] += node.span[i];
+        node = node.next[i];
+      }
+      update[i] = node;
+    }
+
+    int nodeLevel = randomLevel();
+    if (nodeLevel > level) {
+      for (int i = level; i < nodeLevel; i++) {
+        rank[i] = 0;
+        update[i] = head;
+        // The existing entries (all but the new one) are between the head and the list end
+        update[i].span[i] = scores.size() - 1;
+      }
+      level = nodeLevel;
+    }
+
+    Node inserted = new Node(id, score, nodeLevel);
+    for (int i = 0; i < nodeLevel; i++) {
+      inserted.next[i] = update[i].next[i];
+      update[i].next[i] = inserted;
+      inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+      update[i].span[i] = rank[0] - rank[i] + 1;
+    }
+    for (int i = nodeLevel; i < level; i++) {
+      update[i].span[i]++;
+    }
+  }
+
+  private void unlink(Long id, int score) {
+    Node[] update = new Node[MAX_LEVEL];
+
+    Node node = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (node.next[i] != null && precedes(node.next[i], score, id)) {
+        node = node.next[i];
+      }
+      update[i] = node;
+    }
+
+    Node removed = node.next[0];
+    for (int i = 0; i < level; i++) {
+      if (update[i].next[i] == removed) {
+        update[i].span[i] += removed.span[i] - 1;
+        update[i].next[i] = removed.next[i];
+      } else {
+        update[i].span[i]--;
+      }
+    }
+    while (level > 1 && head.next[level - 1] == null) {
+      level--;
+    }
+  }
+
+  /** Whether the node comes before the (score, id) entry in the list order. */
+  private static boolean precedes(Node node, int score, long id) {
+    return node.score > score || (node.score == score && node.id < id);
+  }
+
+  /** Whether the (score, id) entry comes before the node in the list order. */
+  private static boolean precedes(int score, long id, Node node) {
+    return score > node.score || (score == node.score && id < node.id);
+  }
+
+  private static int randomLevel() {
+    int nodeLevel = 1;
+    while (nodeLevel < MAX_LEVEL && ThreadLocalRandom.current().nextDouble() < LEVEL_PROBABILITY) {
+      nodeLevel++;
+    }
+    return nodeLevel;
+  }
+
+  /**
+   * Entry of the list.
+   *
+   * @param id entry ID
+   * @param score entry score
+   */
+  public record Entry(Long id, int score) {}
+
+  private static final class Node {
+
+    private final long id;
+    private final int score;
+    private final Node[] next;
+    // span[i]: number of positions from this node to next[i] (or to the list end if there is none)
+    private final int[] span;
+
+    private Node(long id, int score, int nodeLevel) {
+      this.id = id;
+      this.score = score;
+      this.next = new Node[nodeLevel];
+      this.span = new int[nodeLevel];
+    }
+  }
+}
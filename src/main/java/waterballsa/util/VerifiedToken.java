@@ -0,0 +1,18 @@
+package waterballsa.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * Claims of a JWT whose signature and expiration have already been verified.
+ *
+ * <p>Produced once per token by {@link JwtUtil#verify(String)} so callers never need to parse the
+ * same token again to read individual claims.
+ *
+ * @param jti JWT ID, used as the blacklist key on logout
+ * @param userId user ID taken from the subject claim
+ * @param username username claim
+ * @param expiresAt expiration time of the token
+ * @param tokenEpoch user's token epoch when the token was issued (0 for tokens without the claim)
+ */
+public record VerifiedToken(
+    String jti, Long userId, String username, LocalDateTime expiresAt, int tokenEpoch) {}
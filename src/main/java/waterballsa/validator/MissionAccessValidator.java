@@ -38,11 +38,24 @@ public class MissionAccessValidator {
    * @throws MissionNotFoundException if mission doesn't belong to the journey
    */
   public void validateMissionBelongsToJourney(Mission mission, Long journeyId) {
-    Long actualJourneyId = mission.getChapter().getJourney().getId();
+    validateMissionBelongsToJourney(
+        mission.getId(), mission.getChapter().getJourney().getId(), journeyId);
+  }
+
+  /**
+   * Validates that the mission belongs to the specified journey, using the mission's journey ID.
+   *
+   * @param missionId the mission ID
+   * @param actualJourneyId the journey ID the mission belongs to
+   * @param journeyId the expected journey ID
+   * @throws MissionNotFoundException if mission doesn't belong to the journey
+   */
+  public void validateMissionBelongsToJourney(
+      Long missionId, Long actualJourneyId, Long journeyId) {
     if (!actualJourneyId.equals(journeyId)) {
       logger.warn(
           "Mission {} does not belong to journey {}. Actual journey: {}",
-          mission.getId(),
+          missionId,
           journeyId,
           actualJourneyId);
       throw new MissionNotFoundException("Mission not found in the specified journey");
@@ -67,7 +80,22 @@ public class MissionAccessValidator {
    * @throws ForbiddenException if purchase required but user hasn't purchased
    */
   public void validateMissionAccess(Mission mission, Long userId) {
-    MissionAccessLevel accessLevel = mission.getAccessLevel();
+    validateMissionAccess(
+        mission.getAccessLevel(), mission.getChapter().getJourney().getId(), userId);
+  }
+
+  /**
+   * Validates that the user has access to a mission with the given access level, without loading
+   * the mission entity.
+   *
+   * @param accessLevel the mission's access level
+   * @param journeyId the journey ID the mission belongs to
+   * @param userId the user ID (can be null for anonymous users)
+   * @throws waterballsa.exception.UnauthorizedException if authentication required but user not
+   *     logged in
+   * @throws ForbiddenException if purchase required but user hasn't purchased
+   */
+  public void validateMissionAccess(MissionAccessLevel accessLevel, Long journeyId, Long userId) {
 
     // PUBLIC missions are accessible to everyone
     if (accessLevel == MissionAccessLevel.PUBLIC) {
@@ -84,7 +112,6 @@ public class MissionAccessValidator {
 
     // PURCHASED missions require journey purchase
     if (accessLevel == MissionAccessLevel.PURCHASED) {
-      Long journeyId = mission.getChapter().getJourney().getId();
       boolean hasPurchased = userJourneyRepository.existsByUserIdAndJourneyId(userId, journeyId);
       if (!hasPurchased) {
         throw new ForbiddenException("You need to purchase this journey to access this mission");
@@ -1,9 +1,13 @@
 package waterballsa.validator;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import waterballsa.entity.Mission;
+import waterballsa.cache.MissionMeta;
+import waterballsa.cache.MissionMetaCache;
 import waterballsa.entity.MissionType;
 import waterballsa.entity.ProgressStatus;
 import waterballsa.entity.UserMissionProgress;
@@ -27,10 +31,15 @@ public class ProgressValidator {
   private static final Logger logger = LoggerFactory.getLogger(ProgressValidator.class);
 
   private final AuthValidator authValidator;
+  private final MissionMetaCache missionMetaCache;
   private final MissionRepository missionRepository;
 
-  public ProgressValidator(AuthValidator authValidator, MissionRepository missionRepository) {
+  public ProgressValidator(
+      AuthValidator authValidator,
+      MissionMetaCache missionMetaCache,
+      MissionRepository missionRepository) {
     this.authValidator = authValidator;
+    this.missionMetaCache = missionMetaCache;
     this.missionRepository = missionRepository;
   }
 
@@ -59,26 +68,47 @@ public class ProgressValidator {
    * @throws MissionNotFoundException if mission not found
    */
   public void validateMissionExists(Long missionId) {
-    missionRepository
-        .findByIdAndDeletedAtIsNull(missionId)
-        .orElseThrow(() -> new MissionNotFoundException(missionId));
+    validateAndGetMission(missionId);
   }
 
   /**
-   * Validates that the mission exists and returns it.
+   * Validates that the mission exists and returns its metadata.
    *
-   * <p>This method combines validation and retrieval to avoid duplicate database queries.
+   * <p>Served from {@link MissionMetaCache}, so no database query is needed.
    *
    * @param missionId the mission ID
-   * @return the validated Mission entity
+   * @return the validated mission metadata
    * @throws MissionNotFoundException if mission not found
    */
-  public Mission validateAndGetMission(Long missionId) {
-    return missionRepository
-        .findByIdWithDetails(missionId)
+  public MissionMeta validateAndGetMission(Long missionId) {
+    return missionMetaCache
+        .get(missionId)
         .orElseThrow(() -> new MissionNotFoundException(missionId));
   }
 
+  /**
+   * Validates that all missions exist and returns their metadata.
+   *
+   * <p>Loaded with a single query for the given IDs rather than from {@link MissionMetaCache}, so a
+   * batch never triggers a reload of the whole catalog.
+   *
+   * @param missionIds the mission IDs
+   * @return the validated mission metadata keyed by ID
+   * @throws MissionNotFoundException if any mission is not found
+   */
+  public Map<Long, MissionMeta> validateAndGetMissions(Collection<Long> missionIds) {
+    Map<Long, MissionMeta> missions = new HashMap<>();
+    missionRepository
+        .findMetaByIdIn(missionIds)
+        .forEach(row -> missions.put(row.getId(), MissionMeta.from(row)));
+    for (Long missionId : missionIds) {
+      if (!missions.containsKey(missionId)) {
+        throw new MissionNotFoundException(missionId);
+      }
+    }
+    return missions;
+  }
+
   /**
    * Validates that the mission type supports progress tracking.
    *
@@ -87,8 +117,8 @@ public class ProgressValidator {
    * @param mission the mission to validate
    * @throws UnsupportedMissionTypeException if mission type does not support progress tracking
    */
-  public void validateMissionTypeSupportsProgress(Mission mission) {
-    if (mission.getType() != MissionType.VIDEO) {
+  public void validateMissionTypeSupportsProgress(MissionMeta mission) {
+    if (mission.type() != MissionType.VIDEO) {
       throw new UnsupportedMissionTypeException("Mission type does not support progress tracking");
     }
   }
@@ -127,8 +157,8 @@ public class ProgressValidator {
    * @param progress the user mission progress
    * @throws MissionNotCompletedException if video mission not completed
    */
-  public void validateVideoMissionCompleted(Mission mission, UserMissionProgress progress) {
-    boolean isVideoMission = mission.getType() == MissionType.VIDEO;
+  public void validateVideoMissionCompleted(MissionMeta mission, UserMissionProgress progress) {
+    boolean isVideoMission = mission.type() == MissionType.VIDEO;
     boolean isNotCompleted = progress == null || progress.getStatus() != ProgressStatus.COMPLETED;
 
     if (isVideoMission && isNotCompleted) {
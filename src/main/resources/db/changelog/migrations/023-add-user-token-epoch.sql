@@ -0,0 +1,10 @@
+--liquibase formatted sql
+--changeset liquibase:023-add-user-token-epoch
+--comment: Add token_epoch to users for invalidating all tokens of a user at once
+
+-- Tokens carry the epoch they were issued with; bumping it invalidates every older token
+ALTER TABLE users ADD COLUMN token_epoch INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN users.token_epoch IS 'JWT 世代編號，遞增後所有舊 token 失效';
+
+--rollback ALTER TABLE users DROP COLUMN token_epoch;
@@ -0,0 +1,42 @@
+--liquibase formatted sql
+
+--changeset liquibase:024-create-experience-events-table
+--comment: Create append-only experience_events ledger of XP grants
+
+-- Create experience_event_type enum
+CREATE TYPE experience_event_type AS ENUM ('OPENING_BALANCE', 'MISSION_DELIVERED');
+
+-- Create experience_events table; rows are never updated except for aggregated_at
+CREATE TABLE experience_events (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    mission_id BIGINT NULL,
+    event_type experience_event_type NOT NULL,
+    points INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    aggregated_at TIMESTAMP NULL,
+    CONSTRAINT fk_experience_events_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_experience_events_mission FOREIGN KEY (mission_id) REFERENCES missions(id) ON DELETE CASCADE
+);
+
+-- Create experience_events indexes
+CREATE INDEX idx_experience_events_user_id ON experience_events(user_id);
+-- A mission's XP can only be granted once per user, even by concurrent deliveries
+CREATE UNIQUE INDEX idx_experience_events_user_mission_delivered
+    ON experience_events(user_id, mission_id) WHERE event_type = 'MISSION_DELIVERED';
+-- Events not yet folded into users.experience_points: scanned by the aggregator in ID order and
+-- summed per user for read-your-writes totals
+CREATE INDEX idx_experience_events_pending ON experience_events(user_id, id) WHERE aggregated_at IS NULL;
+
+-- Record existing totals as opening balances so users.experience_points always equals the sum
+-- of a user's events
+INSERT INTO experience_events (user_id, event_type, points, created_at, aggregated_at)
+SELECT id, 'OPENING_BALANCE', experience_points, NOW(), NOW()
+FROM users
+WHERE experience_points <> 0;
+
+COMMENT ON TABLE experience_events IS '經驗值發放紀錄 (僅新增，由背景工作彙總至 users.experience_points)';
+COMMENT ON COLUMN experience_events.aggregated_at IS '彙總至 users.experience_points 的時間，NULL 表示尚未彙總';
+
+--rollback DROP TABLE IF EXISTS experience_events;
+--rollback DROP TYPE IF EXISTS experience_event_type;
@@ -0,0 +1,12 @@
+--liquibase formatted sql
+--changeset liquibase:025-add-orders-user-created-at-index
+--comment: Index a user's orders by creation time for keyset pagination of the order history
+
+-- Serves both the offset pages and the seek (cursor) pages of GET /users/{userId}/orders
+CREATE INDEX idx_orders_user_created_at_id ON orders(user_id, created_at DESC, id DESC);
+
+-- Superseded: user_id is the leading column of the new index
+DROP INDEX IF EXISTS idx_orders_user_id;
+
+--rollback CREATE INDEX idx_orders_user_id ON orders(user_id);
+--rollback DROP INDEX IF EXISTS idx_orders_user_created_at_id;
@@ -0,0 +1,27 @@
+--liquibase formatted sql
+--changeset liquibase:026-add-order-expiry-index-and-scheduler-locks
+--comment: Index overdue unpaid orders for the expiry job and add cluster-wide locks for scheduled jobs
+
+-- Only UNPAID orders can expire; paid and expired orders no longer need to be indexed
+CREATE INDEX idx_orders_unpaid_expired_at ON orders(expired_at) WHERE status = 'UNPAID';
+
+-- Superseded by the partial index above (only the expiry job filters on expired_at)
+DROP INDEX IF EXISTS idx_orders_expired_at;
+
+-- One row per scheduled job; a node may run the job only while it holds the row's lease
+CREATE TABLE scheduler_locks (
+    name VARCHAR(64) PRIMARY KEY,
+    lock_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);
+
+COMMENT ON TABLE scheduler_locks IS '排程工作的叢集鎖，確保同一時間只有一個節點執行';
+COMMENT ON COLUMN scheduler_locks.name IS '排程工作名稱';
+COMMENT ON COLUMN scheduler_locks.lock_until IS '鎖的到期時間，節點異常終止時於此時間後自動釋放';
+COMMENT ON COLUMN scheduler_locks.locked_at IS '取得鎖的時間';
+COMMENT ON COLUMN scheduler_locks.locked_by IS '持有鎖的節點';
+
+--rollback DROP TABLE IF EXISTS scheduler_locks;
+--rollback CREATE INDEX idx_orders_expired_at ON orders(expired_at);
+--rollback DROP INDEX IF EXISTS idx_orders_unpaid_expired_at;
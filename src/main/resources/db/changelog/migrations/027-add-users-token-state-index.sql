@@ -0,0 +1,10 @@
+--liquibase formatted sql
+--changeset liquibase:027-add-users-token-state-index
+--comment: Partial index over users whose tokens are (partly) invalidated, for the token epoch registry
+
+-- Only users with a bumped token epoch or a soft delete are indexed, so every instance's periodic
+-- reload reads a small index (index-only) instead of scanning users
+CREATE INDEX idx_users_token_state ON users(id) INCLUDE (token_epoch, deleted_at)
+    WHERE token_epoch > 0 OR deleted_at IS NOT NULL;
+
+--rollback DROP INDEX IF EXISTS idx_users_token_state;
@@ -3,6 +3,8 @@
 
 -- Drop application tables (order matters due to foreign key constraints)
 -- Current tables
+DROP TABLE IF EXISTS scheduler_locks CASCADE;
+DROP TABLE IF EXISTS experience_events CASCADE;
 DROP TABLE IF EXISTS user_mission_progress CASCADE;
 DROP TABLE IF EXISTS order_items CASCADE;
 DROP TABLE IF EXISTS user_journeys CASCADE;
@@ -35,3 +37,4 @@ DROP TYPE IF EXISTS mission_type CASCADE;
 DROP TYPE IF EXISTS reward_type CASCADE;
 DROP TYPE IF EXISTS user_role CASCADE;
 DROP TYPE IF EXISTS order_status CASCADE;
+DROP TYPE IF EXISTS experience_event_type CASCADE;
@@ -5,6 +5,7 @@ import io.cucumber.java.en.Given;
 import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -12,6 +13,7 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import waterballsa.bdd.support.World;
+import waterballsa.cache.LocalCache;
 
 /**
  * Step definitions for database operations in BDD tests.
@@ -44,6 +46,8 @@ public class DatabaseStepDefinitions {
 
   @Autowired private World world;
 
+  @Autowired private List<LocalCache> localCaches;
+
   /**
    * Create a test user directly in the database.
    *
@@ -154,6 +158,8 @@ public class DatabaseStepDefinitions {
       Long journeyId = ((Number) keys.get("id")).longValue();
       world.setVariable("lastJourneyId", journeyId.toString());
     }
+
+    invalidateLocalCaches();
   }
 
   /**
@@ -206,6 +212,8 @@ public class DatabaseStepDefinitions {
       Long chapterId = ((Number) keys.get("id")).longValue();
       world.setVariable("lastChapterId", chapterId.toString());
     }
+
+    invalidateLocalCaches();
   }
 
   /**
@@ -268,6 +276,8 @@ public class DatabaseStepDefinitions {
       Long missionId = ((Number) keys.get("id")).longValue();
       world.setVariable("lastMissionId", missionId.toString());
     }
+
+    invalidateLocalCaches();
   }
 
   /**
@@ -397,6 +407,8 @@ public class DatabaseStepDefinitions {
         missionId,
         rewardType,
         rewardValue);
+
+    invalidateLocalCaches();
   }
 
   /**
@@ -482,6 +494,8 @@ public class DatabaseStepDefinitions {
         resourceUrl,
         contentOrder,
         durationSeconds);
+
+    invalidateLocalCaches();
   }
 
   /**
@@ -508,6 +522,8 @@ public class DatabaseStepDefinitions {
 
     jdbcTemplate.update(
         "UPDATE journeys SET price = ?, updated_at = NOW() WHERE id = ?", price, journeyId);
+
+    invalidateLocalCaches();
   }
 
   /**
@@ -580,4 +596,9 @@ public class DatabaseStepDefinitions {
               "Expected %d unpaid orders for user %d, but found %d", expectedCount, userId, count));
     }
   }
+
+  /** Content written with plain SQL bypasses the caches' change listeners, so drop them. */
+  private void invalidateLocalCaches() {
+    localCaches.forEach(LocalCache::invalidateAll);
+  }
 }
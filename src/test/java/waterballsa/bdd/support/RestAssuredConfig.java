@@ -3,9 +3,11 @@ package waterballsa.bdd.support;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.restassured.RestAssured;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.jdbc.core.JdbcTemplate;
+import waterballsa.cache.LocalCache;
 
 /**
  * REST Assured configuration for Cucumber tests.
@@ -18,12 +20,14 @@ public class RestAssuredConfig {
 
   @Autowired private World world;
   @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private List<LocalCache> localCaches;
 
   /** Configure REST Assured before each scenario. */
   @Before
   public void setUp() {
     // Clean database before each scenario to ensure test isolation
     cleanDatabase();
+    localCaches.forEach(LocalCache::invalidateAll);
 
     RestAssured.port = port;
     RestAssured.baseURI = "http://localhost";
@@ -32,6 +36,7 @@ public class RestAssuredConfig {
 
   /** Clean all test data from the database. Deletes in order to respect foreign key constraints. */
   private void cleanDatabase() {
+    jdbcTemplate.execute("DELETE FROM experience_events WHERE TRUE");
     jdbcTemplate.execute("DELETE FROM user_mission_progress WHERE TRUE");
     jdbcTemplate.execute("DELETE FROM order_items WHERE TRUE");
     jdbcTemplate.execute("DELETE FROM user_journeys WHERE TRUE");
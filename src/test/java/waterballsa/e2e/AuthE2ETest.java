@@ -1,13 +1,21 @@
 package waterballsa.e2e;
 
 import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.notNullValue;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.http.ContentType;
+import java.time.Duration;
+import java.util.Base64;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import waterballsa.cache.RevokedTokenIndex;
 
 /**
  * E2E tests for authentication endpoints.
@@ -18,10 +26,14 @@ import org.junit.jupiter.api.Test;
  *   <li>User registration (success and failure scenarios)
  *   <li>User login (success and failure scenarios)
  *   <li>User logout (success and failure scenarios)
+ *   <li>Logout from all sessions
+ *   <li>Token revocation propagated from other instances
  * </ul>
  */
 class AuthE2ETest extends BaseE2ETest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   @Test
   @DisplayName("Should successfully register a new user")
   void shouldRegisterNewUser() {
@@ -215,4 +227,103 @@ class AuthE2ETest extends BaseE2ETest {
         .statusCode(401)
         .body("error", equalTo("登入資料已過期"));
   }
+
+  @Test
+  @DisplayName("Should invalidate all sessions of the user on logout-all")
+  void shouldInvalidateAllSessionsOnLogoutAll() {
+    String username = "testuser_" + System.currentTimeMillis();
+    String password = "Test1234!";
+
+    // Register and login twice to get two sessions
+    registerUser(username, password);
+    String firstToken = loginAndGetToken(username, password);
+    String secondToken = loginAndGetToken(username, password);
+
+    given()
+        .header("Authorization", bearerToken(firstToken))
+        .when()
+        .post("/auth/logout-all")
+        .then()
+        .statusCode(200)
+        .body("message", equalTo("Logout from all sessions successful"));
+
+    // Both sessions are rejected
+    given()
+        .header("Authorization", bearerToken(firstToken))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(401);
+    given()
+        .header("Authorization", bearerToken(secondToken))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(401);
+
+    // A new login works again
+    String newToken = loginAndGetToken(username, password);
+    given()
+        .header("Authorization", bearerToken(newToken))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(200);
+  }
+
+  @Test
+  @DisplayName("Should reject token revoked on another instance via cluster event")
+  void shouldRejectTokenRevokedOnAnotherInstance() throws Exception {
+    String username = "testuser_" + System.currentTimeMillis();
+    String password = "Test1234!";
+
+    // Register and login to get token
+    registerUser(username, password);
+    String token = loginAndGetToken(username, password);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(200);
+
+    // Simulate another instance broadcasting the logout. No access_tokens row is written, so only
+    // the cluster event can make this instance reject the token.
+    JsonNode claims =
+        new ObjectMapper().readTree(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
+    String payload = claims.get("jti").asText() + ":" + claims.get("exp").asLong() * 1000;
+    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, RevokedTokenIndex.CHANNEL, payload);
+
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                given()
+                    .header("Authorization", bearerToken(token))
+                    .when()
+                    .get("/users/me")
+                    .then()
+                    .statusCode(401));
+  }
+
+  @Test
+  @DisplayName("Should expose actuator health publicly but require authentication for metrics")
+  void shouldRequireAuthenticationForActuatorMetrics() {
+    given().when().get("/actuator/health").then().statusCode(200);
+
+    given().when().get("/actuator/metrics").then().statusCode(401);
+
+    String username = "testuser_" + System.currentTimeMillis();
+    String password = "Test1234!";
+    registerUser(username, password);
+    String token = loginAndGetToken(username, password);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .get("/actuator/metrics")
+        .then()
+        .statusCode(200);
+  }
 }
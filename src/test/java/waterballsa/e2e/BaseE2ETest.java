@@ -4,13 +4,16 @@ import static io.restassured.RestAssured.given;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
+import waterballsa.cache.LocalCache;
 
 /**
  * Base class for all E2E tests. This class provides:
@@ -54,17 +57,31 @@ public abstract class BaseE2ETest {
     // Configure HikariCP for test environment
     registry.add("spring.datasource.hikari.maximum-pool-size", () -> "5");
     registry.add("spring.datasource.hikari.minimum-idle", () -> "1");
+    // Count the SQL statements of each request for query-count assertions
+    registry.add(
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector",
+        SqlStatementCounter.class::getName);
   }
 
   @LocalServerPort protected int port;
 
+  @Autowired private List<LocalCache> localCaches;
+
   @BeforeEach
   void setUpRestAssured() {
+    // Test data is loaded with plain SQL, so drop anything cached from previous tests
+    invalidateLocalCaches();
+
     RestAssured.port = port;
     RestAssured.baseURI = "http://localhost";
     RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
   }
 
+  /** Drop all in-memory caches, e.g. after changing data with plain SQL in a test. */
+  protected void invalidateLocalCaches() {
+    localCaches.forEach(LocalCache::invalidateAll);
+  }
+
   @AfterEach
   void cleanUp() {
     RestAssured.reset();
@@ -14,6 +14,7 @@ import org.springframework.test.context.jdbc.Sql;
  *
  * <ul>
  *   <li>GET /journeys - Get journey list
+ *   <li>Conditional GET (ETag / If-None-Match) on the journey list
  * </ul>
  */
 @Sql(
@@ -93,4 +94,12 @@ class JourneyE2ETest extends BaseE2ETest {
         .body("journeys[0].coverImageUrl", notNullValue())
         .body("journeys[0].teacherName", notNullValue());
   }
+
+  @Test
+  @DisplayName("Should return 304 for journey list when ETag matches")
+  void shouldReturnNotModifiedForJourneyListWhenETagMatches() {
+    String etag = given().when().get("/journeys").then().statusCode(200).extract().header("ETag");
+
+    given().header("If-None-Match", etag).when().get("/journeys").then().statusCode(304);
+  }
 }
@@ -0,0 +1,213 @@
+package waterballsa.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * E2E tests for the XP leaderboard.
+ *
+ * <p>Tests cover:
+ *
+ * <ul>
+ *   <li>GET /leaderboard - Top of the leaderboard, with tied users sharing a rank
+ *   <li>GET /leaderboard?around={userId} - Page centered on a user
+ *   <li>Incremental updates when a mission is delivered
+ * </ul>
+ */
+@Sql(
+    scripts = {"/test-data/cleanup.sql", "/test-data/missions.sql"},
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/test-data/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class LeaderboardE2ETest extends BaseE2ETest {
+
+  private static final String PASSWORD = "Test1234!";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private String prefix;
+
+  @BeforeEach
+  void setUp() {
+    prefix = "lb" + System.currentTimeMillis() + "_";
+  }
+
+  @Test
+  @DisplayName("Should rank users by experience points with ties sharing a rank")
+  void shouldRankUsersByExperiencePoints() {
+    List<Long> userIds = registerUsersWithExperience(300, 200, 200, 0);
+    String token = loginAndGetToken(prefix + 0, PASSWORD);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(200)
+        .body("totalUsers", equalTo(4))
+        .body("entries.rank", contains(1, 2, 2, 4))
+        .body(
+            "entries.userId",
+            contains(
+                userIds.get(0).intValue(),
+                userIds.get(1).intValue(),
+                userIds.get(2).intValue(),
+                userIds.get(3).intValue()))
+        .body("entries.username", contains(prefix + 0, prefix + 1, prefix + 2, prefix + 3))
+        .body("entries.experiencePoints", contains(300, 200, 200, 0));
+  }
+
+  @Test
+  @DisplayName("Should return the page around the given user")
+  void shouldReturnPageAroundUser() {
+    List<Long> userIds = registerUsersWithExperience(500, 400, 300, 200, 100);
+    String token = loginAndGetToken(prefix + 2, PASSWORD);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .queryParam("around", userIds.get(2))
+        .queryParam("limit", 3)
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(200)
+        .body("entries.rank", contains(2, 3, 4))
+        .body("entries.experiencePoints", contains(400, 300, 200));
+
+    // Near the end of the ranking the page is shifted so it stays full
+    given()
+        .header("Authorization", bearerToken(token))
+        .queryParam("around", userIds.get(4))
+        .queryParam("limit", 3)
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(200)
+        .body("entries.rank", contains(3, 4, 5));
+  }
+
+  @Test
+  @DisplayName("Should move a user up as soon as a delivery grants experience")
+  void shouldUpdateRankOnDelivery() {
+    List<Long> userIds = registerUsersWithExperience(50, 0);
+    Long userId = userIds.get(1);
+    String token = loginAndGetToken(prefix + 1, PASSWORD);
+
+    // Mission 3 is an ARTICLE mission and can be delivered without watching
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .post("/users/{userId}/missions/{missionId}/progress/deliver", userId, 3)
+        .then()
+        .statusCode(200);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .queryParam("around", userId)
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(200)
+        .body("entries.userId", contains(userId.intValue(), userIds.get(0).intValue()))
+        .body("entries.rank", contains(1, 2))
+        .body("entries.experiencePoints", contains(100, 50));
+  }
+
+  @Test
+  @DisplayName("Should show the level of the ranked experience right after a delivery")
+  void shouldShowLevelOfRankedExperienceAfterDelivery() {
+    // Level 2 starts at 200 XP
+    List<Long> userIds = registerUsersWithExperience(150);
+    Long userId = userIds.get(0);
+    String token = loginAndGetToken(prefix + 0, PASSWORD);
+
+    // Mission 3 is an ARTICLE mission worth 100 XP
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .post("/users/{userId}/missions/{missionId}/progress/deliver", userId, 3)
+        .then()
+        .statusCode(200)
+        .body("currentLevel", equalTo(2));
+
+    // Before the ledger is aggregated into the user row
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(200)
+        .body("entries.experiencePoints", contains(250))
+        .body("entries.level", contains(2));
+  }
+
+  @Test
+  @DisplayName("Should return 404 when the around user is not ranked")
+  void shouldReturn404WhenAroundUserIsUnknown() {
+    registerUsersWithExperience(0);
+    String token = loginAndGetToken(prefix + 0, PASSWORD);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .queryParam("around", 999999)
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(404)
+        .body("error", equalTo("使用者不存在"));
+  }
+
+  @Test
+  @DisplayName("Should return 400 when limit is out of range")
+  void shouldReturn400WhenLimitIsOutOfRange() {
+    registerUsersWithExperience(0);
+    String token = loginAndGetToken(prefix + 0, PASSWORD);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .queryParam("limit", 0)
+        .when()
+        .get("/leaderboard")
+        .then()
+        .statusCode(400)
+        .body("error", equalTo("輸入資料格式錯誤"));
+  }
+
+  @Test
+  @DisplayName("Should return 401 without authentication")
+  void shouldReturn401WithoutAuthentication() {
+    given().when().get("/leaderboard").then().statusCode(401).body("error", notNullValue());
+  }
+
+  // ==================== Helper Methods ====================
+
+  /**
+   * Register one user per value, named {@code <prefix><index>}, and set their experience points
+   * with plain SQL. The leaderboard is then reloaded from the database.
+   */
+  private List<Long> registerUsersWithExperience(int... experiencePoints) {
+    List<Long> userIds =
+        IntStream.range(0, experiencePoints.length)
+            .mapToObj(i -> registerUser(prefix + i, PASSWORD))
+            .toList();
+    IntStream.range(0, experiencePoints.length)
+        .forEach(
+            i ->
+                jdbcTemplate.update(
+                    "UPDATE users SET experience_points = ? WHERE id = ?",
+                    experiencePoints[i],
+                    userIds.get(i)));
+    invalidateLocalCaches();
+    return userIds;
+  }
+}
@@ -7,6 +7,8 @@ import io.restassured.http.ContentType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 /**
@@ -17,6 +19,7 @@ import org.springframework.test.context.jdbc.Sql;
  * <ul>
  *   <li>GET /journeys/{journeyId} - Get journey details with chapters and missions
  *   <li>GET /journeys/{journeyId}/missions/{missionId} - Get mission details
+ *   <li>Conditional GET (ETag / If-None-Match) on both endpoints
  * </ul>
  */
 @Sql(
@@ -25,6 +28,8 @@ import org.springframework.test.context.jdbc.Sql;
 @Sql(scripts = "/test-data/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 class MissionE2ETest extends BaseE2ETest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   private String userToken;
 
   @BeforeEach
@@ -103,6 +108,47 @@ class MissionE2ETest extends BaseE2ETest {
         .body("chapters[2].orderIndex", equalTo(3));
   }
 
+  @Test
+  @DisplayName("Should include current user's mission statuses and chapter completion counts")
+  void shouldIncludeUserMissionStatusesAndCompletionCounts() {
+    String username = "progress_" + System.currentTimeMillis();
+    Long userId = registerUser(username, "Test1234!");
+    String token = loginAndGetToken(username, "Test1234!");
+
+    // Mission 1 has duration 256 seconds; reaching it completes the mission
+    given()
+        .header("Authorization", bearerToken(token))
+        .contentType(ContentType.JSON)
+        .body("{\"watchPositionSeconds\": 256}")
+        .when()
+        .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+        .then()
+        .statusCode(200);
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .get("/journeys/1")
+        .then()
+        .statusCode(200)
+        .header("ETag", nullValue())
+        .header("Vary", containsString("Authorization"))
+        .body("chapters[0].missions[0].status", equalTo("COMPLETED"))
+        .body("chapters[0].missions[1].status", equalTo("UNCOMPLETED"))
+        .body("chapters[0].completedMissionCount", equalTo(1))
+        .body("chapters[1].completedMissionCount", equalTo(0));
+
+    // Anonymous requests get the shared tree without statuses
+    given()
+        .when()
+        .get("/journeys/1")
+        .then()
+        .statusCode(200)
+        .header("ETag", notNullValue())
+        .body("chapters[0].missions[0].status", nullValue())
+        .body("chapters[0].completedMissionCount", nullValue());
+  }
+
   @Test
   @DisplayName("Should return 404 when journey does not exist")
   void shouldReturn404WhenJourneyDoesNotExist() {
@@ -298,4 +344,127 @@ class MissionE2ETest extends BaseE2ETest {
         .statusCode(401)
         .body("error", equalTo("登入資料已過期"));
   }
+
+  // ==================== Conditional GET Tests ====================
+
+  @Test
+  @DisplayName("Should return 304 for journey details when ETag matches")
+  void shouldReturnNotModifiedForJourneyDetailsWhenETagMatches() {
+    String etag = given().when().get("/journeys/1").then().statusCode(200).extract().header("ETag");
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/journeys/1")
+        .then()
+        .statusCode(304)
+        .header("ETag", equalTo(etag));
+  }
+
+  @Test
+  @DisplayName("Should return full journey details again after a mission changes")
+  void shouldReturnJourneyDetailsAfterMissionChanges() {
+    String etag = given().when().get("/journeys/1").then().statusCode(200).extract().header("ETag");
+
+    jdbcTemplate.update(
+        "UPDATE missions SET title = '新的標題', updated_at = NOW() + INTERVAL '1 second' WHERE id = 1");
+    // The update bypasses the application, so drop anything it may have cached
+    invalidateLocalCaches();
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/journeys/1")
+        .then()
+        .statusCode(200)
+        .header("ETag", not(equalTo(etag)))
+        .body("chapters[0].missions[0].title", equalTo("新的標題"));
+  }
+
+  @Test
+  @DisplayName("Should return 304 for mission details when ETag matches")
+  void shouldReturnNotModifiedForMissionDetailsWhenETagMatches() {
+    String etag =
+        given()
+            .when()
+            .get("/journeys/1/missions/1")
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/journeys/1/missions/1")
+        .then()
+        .statusCode(304);
+  }
+
+  @Test
+  @DisplayName("Should still require authentication for PURCHASED mission when ETag matches")
+  void shouldRequireAuthenticationForPurchasedMissionEvenWhenETagMatches() {
+    purchaseJourney(userToken, 1L);
+    String etag =
+        given()
+            .header("Authorization", bearerToken(userToken))
+            .when()
+            .get("/journeys/1/missions/3")
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/journeys/1/missions/3")
+        .then()
+        .statusCode(401)
+        .body("error", equalTo("登入資料已過期"));
+  }
+
+  @Test
+  @DisplayName("Should serve the mission reward from the rewards table with a new ETag")
+  void shouldServeRewardFromRewardsTable() {
+    String etag =
+        given()
+            .when()
+            .get("/journeys/1/missions/1")
+            .then()
+            .statusCode(200)
+            .body("reward.exp", equalTo(100))
+            .extract()
+            .header("ETag");
+
+    jdbcTemplate.update(
+        "UPDATE rewards SET reward_value = 250, updated_at = NOW() + INTERVAL '1 second' "
+            + "WHERE mission_id = 1");
+    // Changes made outside the application are only picked up by the reward catalog on its next
+    // refresh, so drop it as that refresh would
+    invalidateLocalCaches();
+
+    given()
+        .header("If-None-Match", etag)
+        .when()
+        .get("/journeys/1/missions/1")
+        .then()
+        .statusCode(200)
+        .header("ETag", not(equalTo(etag)))
+        .body("reward.exp", equalTo(250));
+  }
+
+  @Test
+  @DisplayName("Should return zero reward for a mission without a reward")
+  void shouldReturnZeroRewardForMissionWithoutReward() {
+    jdbcTemplate.update("UPDATE rewards SET deleted_at = NOW() WHERE mission_id = 1");
+    invalidateLocalCaches();
+
+    given()
+        .when()
+        .get("/journeys/1/missions/1")
+        .then()
+        .statusCode(200)
+        .body("reward.exp", equalTo(0));
+  }
 }
@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.*;
 
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
+import waterballsa.cluster.SchedulerLock;
+import waterballsa.service.OrderExpiryService;
 
 /**
  * E2E tests for Order-related endpoints.
@@ -22,6 +25,7 @@ import org.springframework.test.context.jdbc.Sql;
  *   <li>POST /orders - Create order
  *   <li>GET /orders/{orderId} - Get order detail
  *   <li>POST /orders/{orderId}/action/pay - Pay order
+ *   <li>Scheduled expiry of overdue unpaid orders
  * </ul>
  */
 @Sql(
@@ -31,6 +35,8 @@ import org.springframework.test.context.jdbc.Sql;
 class OrderE2ETest extends BaseE2ETest {
 
   @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private OrderExpiryService orderExpiryService;
+  @Autowired private SchedulerLock schedulerLock;
 
   private String userToken;
   private Long userId;
@@ -1070,6 +1076,109 @@ class OrderE2ETest extends BaseE2ETest {
           .body("orders[0].status", anyOf(equalTo("UNPAID"), equalTo("PAID"), equalTo("EXPIRED")));
     }
 
+    @Test
+    @DisplayName("Should treat an overdue unpaid order as expired before the expiry job runs")
+    void shouldTreatOverdueOrderAsExpiredBeforeJobRuns() {
+      Long orderId = createOrder(1L);
+      moveDeadlineIntoPast(orderId);
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/orders/{orderId}", orderId)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("EXPIRED"));
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/{userId}/orders", userId)
+          .then()
+          .statusCode(200)
+          .body("orders[0].id", equalTo(orderId.intValue()))
+          .body("orders[0].status", equalTo("EXPIRED"));
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .post("/orders/{orderId}/action/pay", orderId)
+          .then()
+          .statusCode(409)
+          .body("error", containsString("訂單已過期"));
+
+      // The overdue order is not reused: ordering the journey again creates a new order
+      Long newOrderId = createOrder(1L);
+      assertThat(newOrderId, not(equalTo(orderId)));
+
+      // Only the stored status is left for the job to catch up
+      assertThat(orderStatus(orderId), equalTo("UNPAID"));
+    }
+
+    @Test
+    @DisplayName("Should expire only overdue unpaid orders in the expiry job")
+    void shouldExpireOnlyOverdueUnpaidOrders() {
+      Long overdueOrderId = createOrder(1L);
+      Long pendingOrderId = createOrder(2L);
+      Long paidOrderId = createOrder(3L);
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .post("/orders/{orderId}/action/pay", paidOrderId)
+          .then()
+          .statusCode(200);
+      moveDeadlineIntoPast(overdueOrderId);
+      moveDeadlineIntoPast(paidOrderId);
+
+      assertThat(orderExpiryService.expireOverdueOrders(), equalTo(1));
+
+      assertThat(orderStatus(overdueOrderId), equalTo("EXPIRED"));
+      assertThat(orderStatus(pendingOrderId), equalTo("UNPAID"));
+      assertThat(orderStatus(paidOrderId), equalTo("PAID"));
+    }
+
+    @Test
+    @DisplayName("Should skip the expiry run while another instance holds the job lock")
+    void shouldSkipExpiryWhileLocked() {
+      Long orderId = createOrder(1L);
+      moveDeadlineIntoPast(orderId);
+
+      assertThat(schedulerLock.tryLock("order_expiry", Duration.ofMinutes(1)), is(true));
+      try {
+        orderExpiryService.expireOrders();
+        assertThat(orderStatus(orderId), equalTo("UNPAID"));
+      } finally {
+        schedulerLock.unlock("order_expiry");
+      }
+
+      orderExpiryService.expireOrders();
+      assertThat(orderStatus(orderId), equalTo("EXPIRED"));
+    }
+
+    private Long createOrder(Long journeyId) {
+      return given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"items\": [{\"journeyId\": " + journeyId + ", \"quantity\": 1}]}")
+          .when()
+          .post("/orders")
+          .then()
+          .statusCode(201)
+          .extract()
+          .jsonPath()
+          .getLong("id");
+    }
+
+    private void moveDeadlineIntoPast(Long orderId) {
+      jdbcTemplate.update(
+          "UPDATE orders SET expired_at = NOW() - INTERVAL '1 minute' WHERE id = ?", orderId);
+    }
+
+    private String orderStatus(Long orderId) {
+      return jdbcTemplate.queryForObject(
+          "SELECT status FROM orders WHERE id = ?", String.class, orderId);
+    }
+
     /**
      * Helper method to manually expire an order by updating its status in the database. This
      * simulates what the scheduled task would do after 3 days.
@@ -1,14 +1,28 @@
 package waterballsa.e2e;
 
 import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 import io.restassured.http.ContentType;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import waterballsa.cache.ProgressWriteBuffer;
+import waterballsa.repository.MissionResourceRepository;
 
 /**
  * E2E tests for Progress-related endpoints.
@@ -18,6 +32,7 @@ import org.springframework.test.context.jdbc.Sql;
  * <ul>
  *   <li>GET /users/{userId}/missions/{missionId}/progress - Get user's mission progress
  *   <li>PUT /users/{userId}/missions/{missionId}/progress - Update user's mission progress (upsert)
+ *   <li>PUT /users/{userId}/progress:batch - Update progress of many missions at once
  * </ul>
  */
 @Sql(
@@ -26,6 +41,11 @@ import org.springframework.test.context.jdbc.Sql;
 @Sql(scripts = "/test-data/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 class ProgressE2ETest extends BaseE2ETest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ProgressWriteBuffer progressWriteBuffer;
+  @Autowired private MissionResourceRepository missionResourceRepository;
+  @Autowired private TransactionTemplate transactionTemplate;
+
   private String userToken;
   private Long userId;
 
@@ -161,6 +181,40 @@ class ProgressE2ETest extends BaseE2ETest {
           .statusCode(404)
           .body("error", equalTo("查無此任務"));
     }
+
+    @Test
+    @DisplayName("Should return 404 when mission's chapter is soft deleted")
+    void shouldReturn404WhenChapterIsSoftDeleted() {
+      jdbcTemplate.update("UPDATE chapters SET deleted_at = NOW() WHERE id = 1");
+      // The update bypasses the application, so drop anything it may have cached
+      invalidateLocalCaches();
+
+      // Mission 1 is in chapter 1
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(404)
+          .body("error", equalTo("查無此任務"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when mission's journey is soft deleted")
+    void shouldReturn404WhenJourneyIsSoftDeleted() {
+      jdbcTemplate.update("UPDATE journeys SET deleted_at = NOW() WHERE id = 2");
+      // The update bypasses the application, so drop anything it may have cached
+      invalidateLocalCaches();
+
+      // Mission 7 is in chapter 4 of journey 2
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/{userId}/missions/{missionId}/progress", userId, 7)
+          .then()
+          .statusCode(404)
+          .body("error", equalTo("查無此任務"));
+    }
   }
 
   // ==================== PUT /users/{userId}/missions/{missionId}/progress Tests
@@ -257,6 +311,53 @@ class ProgressE2ETest extends BaseE2ETest {
           .body("watchPositionSeconds", equalTo(256)); // Capped to duration
     }
 
+    @Test
+    @DisplayName("Should use the new video duration right after the mission content changes")
+    void shouldUseNewVideoDurationAfterContentChange() {
+      // Mission 1 has duration 256 seconds; this heartbeat also loads the mission metadata
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 200}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("UNCOMPLETED"));
+
+      // Add a longer video behind it, then retire the current one through the application
+      jdbcTemplate.update(
+          "INSERT INTO mission_resources (id, mission_id, resource_type, resource_url, "
+              + "content_order, duration_seconds, created_at, updated_at) "
+              + "VALUES (100, 1, 'VIDEO', 'https://cdn.waterballsa.tw/c8m1-1.m3u8', 2, 400, "
+              + "NOW(), NOW())");
+      transactionTemplate.executeWithoutResult(
+          status -> missionResourceRepository.findById(1L).orElseThrow().softDelete());
+
+      // The next heartbeat is checked against the new duration: no longer capped at 256
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 300}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("UNCOMPLETED"))
+          .body("watchPositionSeconds", equalTo(300));
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 400}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("COMPLETED"))
+          .body("watchPositionSeconds", equalTo(400));
+    }
+
     @Test
     @DisplayName("Should return 400 for ARTICLE mission")
     void shouldReturn400ForArticleMission() {
@@ -389,6 +490,268 @@ class ProgressE2ETest extends BaseE2ETest {
           .body("status", equalTo("COMPLETED")) // Status should remain COMPLETED
           .body("watchPositionSeconds", equalTo(50));
     }
+
+    @Test
+    @DisplayName("Should handle concurrent completion of the same mission")
+    void shouldHandleConcurrentCompletion() {
+      // Both requests may try to create the progress record; the upsert must not fail either
+      List<Integer> statusCodes =
+          IntStream.range(0, 4)
+              .parallel()
+              .mapToObj(
+                  i ->
+                      given()
+                          .header("Authorization", bearerToken(userToken))
+                          .contentType(ContentType.JSON)
+                          .body("{\"watchPositionSeconds\": 256}")
+                          .when()
+                          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+                          .then()
+                          .extract()
+                          .statusCode())
+              .toList();
+
+      assertThat(statusCodes, everyItem(equalTo(200)));
+      assertThat(
+          jdbcTemplate.queryForList(
+              "SELECT status::text FROM user_mission_progress WHERE user_id = ? AND mission_id = ?",
+              String.class,
+              userId,
+              1L),
+          equalTo(List.of("COMPLETED")));
+    }
+
+    @Test
+    @DisplayName("Should write buffered watch position to database")
+    void shouldWriteBufferedWatchPositionToDatabase() {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 120}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("watchPositionSeconds", equalTo(120));
+
+      await()
+          .atMost(Duration.ofSeconds(10))
+          .until(
+              () ->
+                  jdbcTemplate.queryForList(
+                      "SELECT watch_position_seconds FROM user_mission_progress "
+                          + "WHERE user_id = ? AND mission_id = ?",
+                      Integer.class,
+                      userId,
+                      1L),
+              equalTo(List.of(120)));
+    }
+
+    @Test
+    @DisplayName("Should write a rewatched position of a completed mission to database")
+    void shouldWriteRewatchedPositionOfCompletedMission() {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 256}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("COMPLETED"));
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 50}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200);
+      progressWriteBuffer.flush();
+
+      assertThat(
+          jdbcTemplate.queryForList(
+              "SELECT CAST(status AS VARCHAR) || ':' || watch_position_seconds "
+                  + "FROM user_mission_progress WHERE user_id = ? AND mission_id = ?",
+              String.class,
+              userId,
+              1L),
+          equalTo(List.of("COMPLETED:50")));
+    }
+
+    @Test
+    @DisplayName("Should not let a buffered position overwrite a later completion")
+    void shouldNotOverwriteLaterCompletionWithBufferedPosition() {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 120}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200);
+
+      // Completed on another instance, whose discard() cannot reach this buffer
+      upsertProgress(1L, "COMPLETED", 256, LocalDateTime.now().plusSeconds(1));
+      progressWriteBuffer.flush();
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("COMPLETED"))
+          .body("watchPositionSeconds", equalTo(256));
+    }
+
+    @Test
+    @DisplayName("Should not let a buffered position overwrite a later position")
+    void shouldNotOverwriteLaterPositionWithBufferedPosition() {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"watchPositionSeconds\": 120}")
+          .when()
+          .put("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200);
+
+      // Rewound by a batch sync on another instance
+      upsertProgress(1L, "UNCOMPLETED", 30, LocalDateTime.now().plusSeconds(1));
+      progressWriteBuffer.flush();
+
+      assertThat(
+          jdbcTemplate.queryForList(
+              "SELECT watch_position_seconds FROM user_mission_progress "
+                  + "WHERE user_id = ? AND mission_id = ?",
+              Integer.class,
+              userId,
+              1L),
+          equalTo(List.of(30)));
+    }
+  }
+
+  // ==================== PUT /users/{userId}/progress:batch Tests ====================
+
+  @Nested
+  @DisplayName("PUT /users/{userId}/progress:batch")
+  class BatchUpdateProgressTests {
+
+    @Test
+    @DisplayName("Should update progress of many missions at once")
+    void shouldUpdateManyMissions() {
+      // Mission 1 has duration 256 seconds, mission 2 has 180 seconds
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body(
+              """
+              {"progress": [
+                {"missionId": 1, "watchPositionSeconds": 100},
+                {"missionId": 2, "watchPositionSeconds": 300},
+                {"missionId": 1, "watchPositionSeconds": 120}
+              ]}
+              """)
+          .when()
+          .put("/users/{userId}/progress:batch", userId)
+          .then()
+          .statusCode(200)
+          .body("progress", hasSize(2))
+          .body("progress[0].missionId", equalTo(1))
+          .body("progress[0].status", equalTo("UNCOMPLETED"))
+          .body("progress[0].watchPositionSeconds", equalTo(120)) // Last entry wins
+          .body("progress[1].missionId", equalTo(2))
+          .body("progress[1].status", equalTo("COMPLETED"))
+          .body("progress[1].watchPositionSeconds", equalTo(180)); // Capped to duration
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/{userId}/missions/{missionId}/progress", userId, 2)
+          .then()
+          .statusCode(200)
+          .body("status", equalTo("COMPLETED"))
+          .body("watchPositionSeconds", equalTo(180));
+    }
+
+    @Test
+    @DisplayName("Should write nothing when any mission does not exist")
+    void shouldReturn404WhenAnyMissionNotFound() {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body(
+              """
+              {"progress": [
+                {"missionId": 1, "watchPositionSeconds": 100},
+                {"missionId": 99999, "watchPositionSeconds": 100}
+              ]}
+              """)
+          .when()
+          .put("/users/{userId}/progress:batch", userId)
+          .then()
+          .statusCode(404)
+          .body("error", equalTo("查無此任務"));
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/{userId}/missions/{missionId}/progress", userId, 1)
+          .then()
+          .statusCode(200)
+          .body("watchPositionSeconds", equalTo(0));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when batch contains ARTICLE mission")
+    void shouldReturn400WhenBatchContainsArticleMission() {
+      // Mission 3 is ARTICLE type
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body(
+              """
+              {"progress": [
+                {"missionId": 1, "watchPositionSeconds": 100},
+                {"missionId": 3, "watchPositionSeconds": 100}
+              ]}
+              """)
+          .when()
+          .put("/users/{userId}/progress:batch", userId)
+          .then()
+          .statusCode(400)
+          .body("error", equalTo("此任務類型不支援進度追蹤"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for empty batch")
+    void shouldReturn400ForEmptyBatch() {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"progress\": []}")
+          .when()
+          .put("/users/{userId}/progress:batch", userId)
+          .then()
+          .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Should return 403 when updating other user's progress")
+    void shouldReturn403WhenUpdatingOtherUserProgress() {
+      Long anotherUserId = registerUser("another_" + System.currentTimeMillis(), "Test1234!");
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .contentType(ContentType.JSON)
+          .body("{\"progress\": [{\"missionId\": 1, \"watchPositionSeconds\": 100}]}")
+          .when()
+          .put("/users/{userId}/progress:batch", anotherUserId)
+          .then()
+          .statusCode(403);
+    }
   }
 
   // ==================== POST /users/{userId}/missions/{missionId}/progress/deliver Tests
@@ -659,5 +1022,141 @@ class ProgressE2ETest extends BaseE2ETest {
           .statusCode(404)
           .body("error", equalTo("查無此任務"));
     }
+
+    @Test
+    @DisplayName("Should grant the experience configured in the rewards table")
+    void shouldGrantExperienceFromRewardsTable() {
+      jdbcTemplate.update("UPDATE rewards SET reward_value = 30 WHERE mission_id = 3");
+      invalidateLocalCaches();
+
+      // Mission 3 is an ARTICLE mission and can be delivered without watching
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .post("/users/{userId}/missions/{missionId}/progress/deliver", userId, 3)
+          .then()
+          .statusCode(200)
+          .body("experienceGained", equalTo(30))
+          .body("totalExperience", equalTo(30));
+    }
+
+    @Test
+    @DisplayName("Should level up when delivery crosses a level threshold")
+    void shouldLevelUpWhenDeliveryCrossesThreshold() {
+      // Level 2 starts at 200 XP
+      jdbcTemplate.update("UPDATE users SET experience_points = 150 WHERE id = ?", userId);
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .post("/users/{userId}/missions/{missionId}/progress/deliver", userId, 3)
+          .then()
+          .statusCode(200)
+          .body("experienceGained", equalTo(100))
+          .body("totalExperience", equalTo(250))
+          .body("currentLevel", equalTo(2));
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/me")
+          .then()
+          .statusCode(200)
+          .body("level", equalTo(2));
+    }
+
+    @Test
+    @DisplayName("Should grant exact XP total for concurrent deliveries")
+    void shouldGrantExactExperienceForConcurrentDeliveries() {
+      // Complete every VIDEO mission first (missions 1, 2, 4, 5, 7 with their durations)
+      Map<Long, Integer> videoDurations = Map.of(1L, 256, 2L, 180, 4L, 420, 5L, 600, 7L, 300);
+      videoDurations.forEach(
+          (missionId, duration) ->
+              given()
+                  .header("Authorization", bearerToken(userToken))
+                  .contentType(ContentType.JSON)
+                  .body("{\"watchPositionSeconds\": " + duration + "}")
+                  .when()
+                  .put("/users/{userId}/missions/{missionId}/progress", userId, missionId)
+                  .then()
+                  .statusCode(200)
+                  .body("status", equalTo("COMPLETED")));
+
+      // Deliver all 7 missions in parallel; each delivery only appends to the XP ledger
+      List<Integer> totals =
+          LongStream.rangeClosed(1, 7)
+              .parallel()
+              .mapToObj(
+                  missionId ->
+                      given()
+                          .header("Authorization", bearerToken(userToken))
+                          .when()
+                          .post(
+                              "/users/{userId}/missions/{missionId}/progress/deliver",
+                              userId,
+                              missionId)
+                          .then()
+                          .statusCode(200)
+                          .extract()
+                          .jsonPath()
+                          .getInt("totalExperience"))
+              .toList();
+
+      // Each delivery sees its own grant; concurrent ones may not see each other's yet
+      assertThat(totals, everyItem(allOf(greaterThanOrEqualTo(100), lessThanOrEqualTo(700))));
+
+      // Grants not yet aggregated are included when reading the user's own profile
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .when()
+          .get("/users/me")
+          .then()
+          .statusCode(200)
+          .body("experiencePoints", equalTo(700));
+
+      assertThat(
+          jdbcTemplate.queryForObject(
+              "SELECT COUNT(*) FROM experience_events "
+                  + "WHERE user_id = ? AND event_type = 'MISSION_DELIVERED'",
+              Integer.class,
+              userId),
+          equalTo(7));
+
+      // The background aggregator folds the ledger into the user row
+      await()
+          .atMost(Duration.ofSeconds(10))
+          .until(
+              () ->
+                  jdbcTemplate.queryForObject(
+                      "SELECT experience_points FROM users WHERE id = ?", Integer.class, userId),
+              equalTo(700));
+      assertThat(
+          jdbcTemplate.queryForObject(
+              "SELECT COUNT(*) FROM experience_events "
+                  + "WHERE user_id = ? AND aggregated_at IS NULL",
+              Integer.class,
+              userId),
+          equalTo(0));
+    }
+  }
+
+  // ==================== Helper Methods ====================
+
+  private void upsertProgress(
+      Long missionId, String status, int watchPositionSeconds, LocalDateTime updatedAt) {
+    Timestamp timestamp = Timestamp.valueOf(updatedAt);
+    jdbcTemplate.update(
+        "INSERT INTO user_mission_progress "
+            + "(user_id, mission_id, status, watch_position_seconds, created_at, updated_at) "
+            + "VALUES (?, ?, CAST(? AS progress_status), ?, ?, ?) "
+            + "ON CONFLICT (user_id, mission_id) DO UPDATE SET status = EXCLUDED.status, "
+            + "watch_position_seconds = EXCLUDED.watch_position_seconds, "
+            + "updated_at = EXCLUDED.updated_at",
+        userId,
+        missionId,
+        status,
+        watchPositionSeconds,
+        timestamp,
+        timestamp);
   }
 }
@@ -0,0 +1,35 @@
+package waterballsa.e2e;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector counting the SQL statements prepared while serving HTTP requests.
+ *
+ * <p>Registered for all E2E tests in {@link BaseE2ETest}. Only statements run on the embedded
+ * server's request threads are counted, so scheduled background jobs do not disturb the count.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final AtomicInteger requestStatements = new AtomicInteger();
+
+  @Override
+  public String inspect(String sql) {
+    if (Thread.currentThread().getName().contains("-exec-")) {
+      requestStatements.incrementAndGet();
+    }
+    return sql;
+  }
+
+  /** Reset the count, e.g. right before the request being measured. */
+  static void reset() {
+    requestStatements.set(0);
+  }
+
+  /**
+   * @return number of statements run on request threads since the last reset
+   */
+  static int count() {
+    return requestStatements.get();
+  }
+}
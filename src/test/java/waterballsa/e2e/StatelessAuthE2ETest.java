@@ -0,0 +1,77 @@
+package waterballsa.e2e;
+
+import static io.restassured.RestAssured.given;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * E2E tests for authentication with {@code jwt.stateless.enabled=true}.
+ *
+ * <p>Tests cover:
+ *
+ * <ul>
+ *   <li>Logout revokes only the given token
+ *   <li>Logout from all sessions still ends every session
+ * </ul>
+ */
+@TestPropertySource(properties = "jwt.stateless.enabled=true")
+class StatelessAuthE2ETest extends BaseE2ETest {
+
+  @Test
+  @DisplayName("Should revoke only the logged out session in stateless mode")
+  void shouldRevokeOnlyLoggedOutSession() {
+    String username = "testuser_" + System.currentTimeMillis();
+    String password = "Test1234!";
+
+    registerUser(username, password);
+    String firstToken = loginAndGetToken(username, password);
+    String secondToken = loginAndGetToken(username, password);
+
+    given()
+        .header("Authorization", bearerToken(firstToken))
+        .when()
+        .post("/auth/logout")
+        .then()
+        .statusCode(200);
+
+    given()
+        .header("Authorization", bearerToken(firstToken))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(401);
+    given()
+        .header("Authorization", bearerToken(secondToken))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(200);
+  }
+
+  @Test
+  @DisplayName("Should invalidate all sessions on logout-all in stateless mode")
+  void shouldInvalidateAllSessionsOnLogoutAll() {
+    String username = "testuser_" + System.currentTimeMillis();
+    String password = "Test1234!";
+
+    registerUser(username, password);
+    String firstToken = loginAndGetToken(username, password);
+    String secondToken = loginAndGetToken(username, password);
+
+    given()
+        .header("Authorization", bearerToken(firstToken))
+        .when()
+        .post("/auth/logout-all")
+        .then()
+        .statusCode(200);
+
+    given()
+        .header("Authorization", bearerToken(secondToken))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(401);
+  }
+}
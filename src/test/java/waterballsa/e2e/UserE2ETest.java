@@ -1,11 +1,18 @@
 package waterballsa.e2e;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import waterballsa.service.LevelBackfillService;
 
 /**
  * E2E tests for user profile endpoints.
@@ -19,6 +26,12 @@ import org.junit.jupiter.api.Test;
  */
 class UserE2ETest extends BaseE2ETest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private LevelBackfillService levelBackfillService;
+
+  @Autowired private DataSource dataSource;
+
   @Test
   @DisplayName("Should successfully get authenticated user profile")
   void shouldGetAuthenticatedUserProfile() {
@@ -92,4 +105,62 @@ class UserE2ETest extends BaseE2ETest {
         .statusCode(401)
         .body("error", equalTo("登入資料已過期"));
   }
+
+  @Test
+  @DisplayName("Should recompute stale levels with the level backfill")
+  void shouldRecomputeStaleLevelsWithBackfill() {
+    String username = "testuser_" + System.currentTimeMillis();
+    String password = "Test1234!";
+
+    Long userId = registerUser(username, password);
+    String token = loginAndGetToken(username, password);
+
+    // Experience changed outside the application leaves the level stale (600 XP is level 3)
+    jdbcTemplate.update("UPDATE users SET experience_points = 600, level = 1 WHERE id = ?", userId);
+
+    levelBackfillService.backfill();
+
+    given()
+        .header("Authorization", bearerToken(token))
+        .when()
+        .get("/users/me")
+        .then()
+        .statusCode(200)
+        .body("experiencePoints", equalTo(600))
+        .body("level", equalTo(3));
+  }
+
+  @Test
+  @DisplayName("Should keep backfilling other users when one user's row is locked")
+  void shouldSkipLockedUserInLevelBackfill() throws Exception {
+    long suffix = System.currentTimeMillis();
+    Long lockedUserId = registerUser("testuser_a" + suffix, "Test1234!");
+    Long otherUserId = registerUser("testuser_b" + suffix, "Test1234!");
+    jdbcTemplate.update(
+        "UPDATE users SET experience_points = 600, level = 1 WHERE id IN (?, ?)",
+        lockedUserId,
+        otherUserId);
+
+    // Hold the row lock from another connection, as a long-running writer would
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement lock =
+          connection.prepareStatement("SELECT id FROM users WHERE id = ? FOR UPDATE")) {
+        lock.setLong(1, lockedUserId);
+        lock.executeQuery().close();
+      }
+
+      levelBackfillService.backfill();
+
+      connection.rollback();
+    }
+
+    assertThat(levelOf(lockedUserId), equalTo(1));
+    assertThat(levelOf(otherUserId), equalTo(3));
+  }
+
+  private Integer levelOf(Long userId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT level FROM users WHERE id = ?", Integer.class, userId);
+  }
 }
@@ -8,6 +8,8 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 /**
@@ -25,6 +27,8 @@ import org.springframework.test.context.jdbc.Sql;
 @Sql(scripts = "/test-data/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 class UserJourneysE2ETest extends BaseE2ETest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   private String userToken;
   private Long userId;
 
@@ -137,6 +141,37 @@ class UserJourneysE2ETest extends BaseE2ETest {
     assertThat(actualJourneyTitle, equalTo(expectedJourneyTitle));
   }
 
+  @Test
+  @DisplayName("Should load all purchased journeys with a constant number of SQL statements")
+  void shouldUseConstantNumberOfStatementsForPurchases() {
+    createAndPayOrder(1L);
+    int onePurchaseStatements = countStatementsOfJourneyListRequest(1);
+
+    createAndPayOrder(2L);
+    createAndPayOrder(3L);
+    int threePurchaseStatements = countStatementsOfJourneyListRequest(3);
+
+    // Purchases, journeys and orders are joined in one query
+    assertThat(threePurchaseStatements, equalTo(onePurchaseStatements));
+  }
+
+  @Test
+  @DisplayName("Should leave out journeys deleted after the purchase")
+  void shouldLeaveOutDeletedJourneys() {
+    createAndPayOrder(1L);
+    createAndPayOrder(2L);
+    jdbcTemplate.update("UPDATE journeys SET deleted_at = NOW() WHERE id = 1");
+
+    given()
+        .header("Authorization", bearerToken(userToken))
+        .when()
+        .get("/users/{userId}/journeys", userId)
+        .then()
+        .statusCode(200)
+        .body("journeys", hasSize(1))
+        .body("journeys[0].journeyId", equalTo(2));
+  }
+
   @Test
   @DisplayName("Should fail when not authenticated")
   void shouldFailWhenNotAuthenticated() {
@@ -228,6 +263,28 @@ class UserJourneysE2ETest extends BaseE2ETest {
     return orderId;
   }
 
+  /**
+   * Request the test user's purchased journeys with cold caches and count the SQL statements it
+   * runs.
+   *
+   * @param expectedJourneys number of journeys expected in the list
+   * @return number of SQL statements
+   */
+  private int countStatementsOfJourneyListRequest(int expectedJourneys) {
+    invalidateLocalCaches();
+    SqlStatementCounter.reset();
+
+    given()
+        .header("Authorization", bearerToken(userToken))
+        .when()
+        .get("/users/{userId}/journeys", userId)
+        .then()
+        .statusCode(200)
+        .body("journeys", hasSize(expectedJourneys));
+
+    return SqlStatementCounter.count();
+  }
+
   // Helper method for assertThat
   private static <T> void assertThat(T actual, org.hamcrest.Matcher<? super T> matcher) {
     org.hamcrest.MatcherAssert.assertThat(actual, matcher);
@@ -5,9 +5,13 @@ import static org.hamcrest.Matchers.*;
 
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 /**
@@ -17,6 +21,8 @@ import org.springframework.test.context.jdbc.Sql;
  *
  * <ul>
  *   <li>GET /users/{userId}/orders - Get user's order list with pagination
+ *   <li>GET /users/{userId}/orders?after={cursor} - Keyset pagination with opaque cursors
+ *   <li>Number of SQL statements per page, independent of the page size
  * </ul>
  */
 @Sql(
@@ -25,6 +31,8 @@ import org.springframework.test.context.jdbc.Sql;
 @Sql(scripts = "/test-data/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 class UserOrdersE2ETest extends BaseE2ETest {
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
   private String userToken;
   private Long userId;
 
@@ -156,6 +164,138 @@ class UserOrdersE2ETest extends BaseE2ETest {
     assertThat(lastOrderInResponse, equalTo(firstOrderId));
   }
 
+  @Test
+  @DisplayName("Should page through orders with cursors, newest first and without gaps")
+  void shouldPageThroughOrdersWithCursors() {
+    // Inserted in one statement, so all orders share created_at and are ordered by ID
+    insertPaidOrders(5);
+    List<Long> expectedIds =
+        jdbcTemplate.queryForList(
+            "SELECT id FROM orders WHERE user_id = ? ORDER BY created_at DESC, id DESC",
+            Long.class,
+            userId);
+
+    Response firstPage =
+        given()
+            .header("Authorization", bearerToken(userToken))
+            .queryParam("limit", 2)
+            .when()
+            .get("/users/{userId}/orders", userId)
+            .then()
+            .statusCode(200)
+            .body("orders", hasSize(2))
+            .body("pagination.total", equalTo(5))
+            .body("pagination.nextCursor", notNullValue())
+            .extract()
+            .response();
+
+    Response secondPage =
+        given()
+            .header("Authorization", bearerToken(userToken))
+            .queryParam("limit", 2)
+            .queryParam("after", firstPage.jsonPath().getString("pagination.nextCursor"))
+            .when()
+            .get("/users/{userId}/orders", userId)
+            .then()
+            .statusCode(200)
+            .body("orders", hasSize(2))
+            .body("pagination.page", nullValue())
+            .body("pagination.total", nullValue())
+            .body("pagination.nextCursor", notNullValue())
+            .extract()
+            .response();
+
+    Response lastPage =
+        given()
+            .header("Authorization", bearerToken(userToken))
+            .queryParam("limit", 2)
+            .queryParam("after", secondPage.jsonPath().getString("pagination.nextCursor"))
+            .when()
+            .get("/users/{userId}/orders", userId)
+            .then()
+            .statusCode(200)
+            .body("orders", hasSize(1))
+            .body("pagination.nextCursor", nullValue())
+            .extract()
+            .response();
+
+    List<Long> pagedIds = new ArrayList<>();
+    for (Response page : List.of(firstPage, secondPage, lastPage)) {
+      pagedIds.addAll(page.jsonPath().getList("orders.id", Long.class));
+    }
+    assertThat(pagedIds, equalTo(expectedIds));
+  }
+
+  @Test
+  @DisplayName("Should return 400 for a malformed cursor")
+  void shouldReturn400ForMalformedCursor() {
+    given()
+        .header("Authorization", bearerToken(userToken))
+        .queryParam("after", "not-a-cursor")
+        .when()
+        .get("/users/{userId}/orders", userId)
+        .then()
+        .statusCode(400)
+        .body("error", equalTo("輸入資料格式錯誤"));
+  }
+
+  @Test
+  @DisplayName("Should return 400 when the limit is out of range")
+  void shouldReturn400WhenLimitIsOutOfRange() {
+    insertPaidOrders(2);
+    String cursor =
+        given()
+            .header("Authorization", bearerToken(userToken))
+            .queryParam("limit", 1)
+            .when()
+            .get("/users/{userId}/orders", userId)
+            .then()
+            .statusCode(200)
+            .extract()
+            .path("pagination.nextCursor");
+
+    // 2147483647 used to overflow the look-ahead row count into a negative SQL LIMIT
+    for (String limit : List.of("0", "101", "2147483647")) {
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .queryParam("limit", limit)
+          .when()
+          .get("/users/{userId}/orders", userId)
+          .then()
+          .statusCode(400);
+
+      given()
+          .header("Authorization", bearerToken(userToken))
+          .queryParam("after", cursor)
+          .queryParam("limit", limit)
+          .when()
+          .get("/users/{userId}/orders", userId)
+          .then()
+          .statusCode(400);
+    }
+
+    given()
+        .header("Authorization", bearerToken(userToken))
+        .queryParam("limit", 100)
+        .when()
+        .get("/users/{userId}/orders", userId)
+        .then()
+        .statusCode(200);
+  }
+
+  @Test
+  @DisplayName("Should not issue more SQL statements for a larger page of orders")
+  void shouldUseConstantNumberOfStatementsPerPage() {
+    insertPaidOrders(1);
+    int singleOrderStatements = countStatementsOfOrderListRequest(1);
+
+    insertPaidOrders(19);
+    int twentyOrderStatements = countStatementsOfOrderListRequest(20);
+
+    // Items and journey titles of the whole page are loaded in one query each
+    assertThat(twentyOrderStatements, equalTo(singleOrderStatements));
+  }
+
   @Test
   @DisplayName("Should fail when not authenticated")
   void shouldFailWhenNotAuthenticated() {
@@ -228,6 +368,51 @@ class UserOrdersE2ETest extends BaseE2ETest {
         .getLong("id");
   }
 
+  /**
+   * Insert paid orders for the test user directly, each with one item cycling through journeys 1-3.
+   *
+   * @param count number of orders to insert
+   */
+  private void insertPaidOrders(int count) {
+    jdbcTemplate.update(
+        "WITH inserted AS ("
+            + "  INSERT INTO orders (order_number, user_id, status, original_price, discount, price,"
+            + "    paid_at) "
+            + "  SELECT 'T-' || gen_random_uuid(), ?, CAST('PAID' AS order_status), 100.00, 0.00,"
+            + "    100.00, NOW() "
+            + "  FROM generate_series(1, ?) "
+            + "  RETURNING id) "
+            + "INSERT INTO order_items (order_id, journey_id, quantity, original_price, discount,"
+            + "  price) "
+            + "SELECT id, id % 3 + 1, 1, 100.00, 0.00, 100.00 FROM inserted",
+        userId, count);
+  }
+
+  /**
+   * Request the first page of the test user's orders with cold caches and count the SQL statements
+   * it runs.
+   *
+   * @param expectedOrders number of orders expected on the page
+   * @return number of SQL statements
+   */
+  private int countStatementsOfOrderListRequest(int expectedOrders) {
+    invalidateLocalCaches();
+    SqlStatementCounter.reset();
+
+    // The limit is above the order count so the page never needs a separate count query
+    given()
+        .header("Authorization", bearerToken(userToken))
+        .queryParam("limit", 50)
+        .when()
+        .get("/users/{userId}/orders", userId)
+        .then()
+        .statusCode(200)
+        .body("orders", hasSize(expectedOrders))
+        .body("orders.items.flatten().journeyTitle", everyItem(not(equalTo("Unknown Journey"))));
+
+    return SqlStatementCounter.count();
+  }
+
   /**
    * Helper method to sleep for a specified time.
    *
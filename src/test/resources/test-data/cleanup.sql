@@ -2,6 +2,7 @@
 -- This script removes all test data after test execution
 
 -- Delete in order to respect foreign key constraints
+DELETE FROM experience_events WHERE TRUE;
 DELETE FROM user_mission_progress WHERE TRUE;
 DELETE FROM order_items WHERE TRUE;
 DELETE FROM user_journeys WHERE TRUE;